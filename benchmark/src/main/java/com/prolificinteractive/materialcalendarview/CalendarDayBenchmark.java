@@ -0,0 +1,97 @@
+package com.prolificinteractive.materialcalendarview;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creating, converting and comparing {@linkplain CalendarDay}s
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CalendarDayBenchmark {
+
+    private static final int DAYS = 1024;
+
+    private final int[] nearYears = new int[DAYS];
+    private final int[] farYears = new int[DAYS];
+    private final int[] months = new int[DAYS];
+    private final int[] days = new int[DAYS];
+    private final int[] epochDays = new int[DAYS];
+    private final CalendarDay[] calendarDays = new CalendarDay[DAYS];
+    private int index = 0;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        int year = CalendarDay.today().getYear();
+        for(int i = 0; i < DAYS; i++) {
+            nearYears[i] = year - 2 + random.nextInt(5);
+            farYears[i] = 1600 + random.nextInt(800);
+            months[i] = random.nextInt(12);
+            days[i] = 1 + random.nextInt(28);
+            calendarDays[i] = CalendarDay.from(farYears[i], months[i], days[i]);
+            epochDays[i] = CalendarUtils.toEpochDay(calendarDays[i]);
+        }
+    }
+
+    private int next() {
+        index = (index + 1) & (DAYS - 1);
+        return index;
+    }
+
+    /**
+     * Days around today are interned, so this should not allocate
+     */
+    @Benchmark
+    public CalendarDay fromNearYear() {
+        int i = next();
+        return CalendarDay.from(nearYears[i], months[i], days[i]);
+    }
+
+    @Benchmark
+    public CalendarDay fromFarYear() {
+        int i = next();
+        return CalendarDay.from(farYears[i], months[i], days[i]);
+    }
+
+    @Benchmark
+    public int toEpochDay() {
+        return CalendarUtils.toEpochDay(calendarDays[next()]);
+    }
+
+    @Benchmark
+    public CalendarDay fromEpochDay() {
+        return CalendarUtils.fromEpochDay(epochDays[next()]);
+    }
+
+    @Benchmark
+    public void compare(Blackhole blackhole) {
+        int i = next();
+        CalendarDay day = calendarDays[i];
+        CalendarDay other = calendarDays[(i + 1) & (DAYS - 1)];
+        blackhole.consume(day.compareTo(other));
+        blackhole.consume(day.isBefore(other));
+        blackhole.consume(day.equals(other));
+    }
+
+    @Benchmark
+    public int hash() {
+        return calendarDays[next()].hashCode();
+    }
+}
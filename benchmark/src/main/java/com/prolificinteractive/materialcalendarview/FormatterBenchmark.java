@@ -0,0 +1,76 @@
+package com.prolificinteractive.materialcalendarview;
+
+import com.prolificinteractive.materialcalendarview.format.CachingTitleFormatter;
+import com.prolificinteractive.materialcalendarview.format.CalendarWeekDayFormatter;
+import com.prolificinteractive.materialcalendarview.format.DateFormatTitleFormatter;
+import com.prolificinteractive.materialcalendarview.format.TitleFormatter;
+import com.prolificinteractive.materialcalendarview.format.WeekDayFormatter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Format month titles, week day labels and day labels
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FormatterBenchmark {
+
+    /**
+     * Enough months to page back and forth within the title cache
+     */
+    private static final int MONTHS = 16;
+
+    private final CalendarDay[] months = new CalendarDay[MONTHS];
+    private final TitleFormatter dateFormatter = new DateFormatTitleFormatter();
+    private final TitleFormatter cachingFormatter = new CachingTitleFormatter(new DateFormatTitleFormatter());
+    private final WeekDayFormatter weekDayFormatter = new CalendarWeekDayFormatter();
+    private int month = 0;
+    private int dayOfWeek = 0;
+    private int day = 0;
+
+    @Setup
+    public void setup() {
+        for(int i = 0; i < MONTHS; i++) {
+            months[i] = CalendarDay.from(2015 + i / 12, i % 12, 1);
+        }
+    }
+
+    @Benchmark
+    public CharSequence title() {
+        month = (month + 1) & (MONTHS - 1);
+        return dateFormatter.format(months[month]);
+    }
+
+    @Benchmark
+    public CharSequence cachedTitle() {
+        month = (month + 1) & (MONTHS - 1);
+        return cachingFormatter.format(months[month]);
+    }
+
+    @Benchmark
+    public CharSequence weekDay() {
+        dayOfWeek = dayOfWeek == 7 ? 1 : dayOfWeek + 1;
+        return weekDayFormatter.format(dayOfWeek);
+    }
+
+    @Benchmark
+    public String dayLabel() {
+        day = day == 31 ? 1 : day + 1;
+        return DayLabels.get()[day];
+    }
+}
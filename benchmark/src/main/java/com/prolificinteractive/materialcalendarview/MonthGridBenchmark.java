@@ -0,0 +1,97 @@
+package com.prolificinteractive.materialcalendarview;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compute the 42 cells of a month grid, as a month page does when it is bound,
+ * for every first day of the week, from scratch and from the shared {@linkplain MonthGrid} cache
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MonthGridBenchmark {
+
+    private static final int CELLS = MonthGrid.CELLS;
+
+    @Param({ "1", "2", "3", "4", "5", "6", "7" })
+    public int firstDayOfWeek;
+
+    @Param({ "false", "true" })
+    public boolean showOtherDates;
+
+    private final int[] cellEpochDays = new int[CELLS];
+    private final int[] cellDays = new int[CELLS];
+    private int monthKey = 2015 * 12;
+
+    /**
+     * @return a checksum of the cells, so the grid cannot be optimized away
+     */
+    @Benchmark
+    public int grid() {
+        monthKey = monthKey == 2015 * 12 + 11 ? 2015 * 12 : monthKey + 1;
+        int year = monthKey / 12;
+        int month = monthKey % 12;
+
+        int firstDayOfMonth = CalendarUtils.toEpochDay(year, month, 1);
+        int firstDayOfMonthDow = CalendarUtils.getDayOfWeek(firstDayOfMonth);
+        int daysInMonth = CalendarUtils.getDaysInMonth(year, month);
+        int daysInPreviousMonth = CalendarUtils.getDay(firstDayOfMonth - 1);
+
+        int day = CalendarUtils.getFirstCellDay(firstDayOfWeek, firstDayOfMonthDow, showOtherDates);
+        int epochDay = firstDayOfMonth + day - 1;
+        int checksum = 0;
+        for(int i = 0; i < CELLS; i++, day++, epochDay++) {
+            cellEpochDays[i] = epochDay;
+            if(day < 1) {
+                cellDays[i] = daysInPreviousMonth + day;
+            } else if(day > daysInMonth) {
+                cellDays[i] = day - daysInMonth;
+            } else {
+                cellDays[i] = day;
+            }
+            checksum = checksum * 31 + cellDays[i];
+        }
+        return checksum;
+    }
+
+    /**
+     * @return a checksum of the cells, so the grid cannot be optimized away
+     */
+    @Benchmark
+    public int cachedGrid() {
+        monthKey = monthKey == 2015 * 12 + 11 ? 2015 * 12 : monthKey + 1;
+        MonthGrid grid = MonthGrid.get(monthKey / 12, monthKey % 12, firstDayOfWeek, showOtherDates);
+
+        int daysInMonth = grid.getDaysInMonth();
+        int daysInPreviousMonth = grid.getDaysInPreviousMonth();
+        int day = grid.getFirstCellDay();
+        int epochDay = grid.getFirstCellEpochDay();
+        int checksum = 0;
+        for(int i = 0; i < CELLS; i++, day++, epochDay++) {
+            cellEpochDays[i] = epochDay;
+            if(day < 1) {
+                cellDays[i] = daysInPreviousMonth + day;
+            } else if(day > daysInMonth) {
+                cellDays[i] = day - daysInMonth;
+            } else {
+                cellDays[i] = day;
+            }
+            checksum = checksum * 31 + cellDays[i];
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,66 @@
+package com.prolificinteractive.materialcalendarview;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Map between pager positions and months, as the pager adapter does for
+ * getIndexForDay and getItem, over ranges from one month to 400 years
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MonthIndexBenchmark {
+
+    private static final int LOOKUPS = 1024;
+
+    @Param({ "1", "12", "1200", "4800" })
+    public int months;
+
+    private final MonthIndex index = new MonthIndex();
+    private final CalendarDay[] days = new CalendarDay[LOOKUPS];
+    private final int[] positions = new int[LOOKUPS];
+    private int next = 0;
+
+    @Setup
+    public void setup() {
+        CalendarDay min = CalendarDay.from(1800, 0, 1);
+        int lastMonth = 1800 * 12 + months - 1;
+        CalendarDay max = CalendarDay.from(lastMonth / 12, lastMonth % 12, 28);
+        index.setRange(min, max);
+
+        Random random = new Random(42);
+        for(int i = 0; i < LOOKUPS; i++) {
+            int month = 1800 * 12 + random.nextInt(months);
+            days[i] = CalendarDay.from(month / 12, month % 12, 1 + random.nextInt(28));
+            positions[i] = random.nextInt(index.getCount());
+        }
+    }
+
+    @Benchmark
+    public int indexOf() {
+        next = (next + 1) & (LOOKUPS - 1);
+        return index.indexOf(days[next]);
+    }
+
+    @Benchmark
+    public CalendarDay getMonth() {
+        next = (next + 1) & (LOOKUPS - 1);
+        return index.getMonth(positions[next]);
+    }
+}
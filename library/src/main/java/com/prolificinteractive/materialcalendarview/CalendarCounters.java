@@ -0,0 +1,82 @@
+package com.prolificinteractive.materialcalendarview;
+
+import com.prolificinteractive.materialcalendarview.format.CachingTitleFormatter;
+import com.prolificinteractive.materialcalendarview.format.CalendarWeekDayFormatter;
+import com.prolificinteractive.materialcalendarview.format.TitleFormatter;
+import com.prolificinteractive.materialcalendarview.format.WeekDayFormatter;
+
+/**
+ * Counts of the work done by a calendar and its pages, read through {@linkplain CalendarStats}.
+ * Only touched on the main thread, so plain fields are enough.
+ */
+final class CalendarCounters {
+
+    /**
+     * Pages constructed, not counting recycled pages being bound again
+     */
+    int pagesCreated = 0;
+    /**
+     * Pages dropped by the pager without being kept for recycling
+     */
+    int pagesDestroyed = 0;
+    /**
+     * Times a page resolved its changed days
+     */
+    int pageUpdates = 0;
+    /**
+     * Times the months of the pager were rebuilt after the range changed
+     */
+    int monthRebuilds = 0;
+    /**
+     * Selection backgrounds created for days, not counting those copied from the shared backgrounds
+     */
+    int drawablesCreated = 0;
+    /**
+     * Titles and week day labels formatted, not counting those served from a cache
+     */
+    int formatterCalls = 0;
+    /**
+     * Time spent binding pages and resolving their days
+     */
+    long bindNanos = 0;
+
+    void reset() {
+        pagesCreated = 0;
+        pagesDestroyed = 0;
+        pageUpdates = 0;
+        monthRebuilds = 0;
+        drawablesCreated = 0;
+        formatterCalls = 0;
+        bindNanos = 0;
+    }
+
+    /**
+     * Format a title, counting it only if the formatter did not have it cached
+     */
+    CharSequence formatTitle(TitleFormatter formatter, CalendarDay day) {
+        if(formatter instanceof CachingTitleFormatter) {
+            CachingTitleFormatter cache = (CachingTitleFormatter) formatter;
+            int misses = cache.getMissCount();
+            CharSequence title = formatter.format(day);
+            formatterCalls += cache.getMissCount() - misses;
+            return title;
+        }
+        formatterCalls++;
+        return formatter.format(day);
+    }
+
+    /**
+     * Format a week day label, counting it only if the formatter did not have it cached
+     */
+    CharSequence formatWeekDay(WeekDayFormatter formatter, int dayOfWeek) {
+        if(formatter instanceof CalendarWeekDayFormatter) {
+            CalendarWeekDayFormatter cache = (CalendarWeekDayFormatter) formatter;
+            int misses = cache.getMissCount();
+            CharSequence label = formatter.format(dayOfWeek);
+            formatterCalls += cache.getMissCount() - misses;
+            return label;
+        }
+        formatterCalls++;
+        return formatter.format(dayOfWeek);
+    }
+}
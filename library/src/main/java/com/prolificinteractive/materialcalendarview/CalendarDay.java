@@ -9,12 +9,33 @@ import java.util.Locale;
 
 /**
  * An imputable representation of a day on a calendar
+ * <p>
+ * A day is stored as a single packed int, see {@linkplain #getPackedKey()}.
+ * Prefer {@linkplain #from(int, int, int)} over the constructors,
+ * it reuses instances for days close to today.
+ * </p>
  */
-public final class CalendarDay implements Parcelable {
+public final class CalendarDay implements Parcelable, Comparable<CalendarDay> {
 
-    private final int year;
-    private final int month;
-    private final int day;
+    private static final int MONTH_SHIFT = 5;
+    private static final int YEAR_SHIFT = 9;
+    private static final int DAY_MASK = (1 << MONTH_SHIFT) - 1;
+    private static final int MONTH_MASK = (1 << (YEAR_SHIFT - MONTH_SHIFT)) - 1;
+
+    /**
+     * Years before and after the current year to keep interned instances for
+     */
+    private static final int CACHE_YEARS = 5;
+    private static final int CACHE_FIRST_MONTH;
+    private static final CalendarDay[] CACHE;
+
+    static {
+        int year = Calendar.getInstance().get(Calendar.YEAR);
+        CACHE_FIRST_MONTH = (year - CACHE_YEARS) * 12;
+        CACHE = new CalendarDay[(CACHE_YEARS * 2 + 1) * 12 * 31];
+    }
+
+    private final int key;
 
     /**
      * Initialized to the current day
@@ -23,6 +44,76 @@ public final class CalendarDay implements Parcelable {
         this(CalendarUtils.getInstance());
     }
 
+    /**
+     * Get a day, reusing a shared instance for days within a few years of today.
+     *
+     * @param year the year
+     * @param month the month as defined by {@linkplain java.util.Calendar}
+     * @param day the day of month
+     * @return a day with the provided date
+     */
+    public static CalendarDay from(int year, int month, int day) {
+        if(month < 0 || month > 11 || day < 1 || day > 31) {
+            return new CalendarDay(year, month, day);
+        }
+        int index = (year * 12 + month - CACHE_FIRST_MONTH) * 31 + day - 1;
+        if(index < 0 || index >= CACHE.length) {
+            return new CalendarDay(year, month, day);
+        }
+        CalendarDay cached = CACHE[index];
+        if(cached == null) {
+            //Racing threads may both create an instance, which is harmless since they are equal
+            cached = new CalendarDay(year, month, day);
+            CACHE[index] = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * @param calendar source to pull date information from, may be null
+     * @return a day with the calendar's date, or null if calendar is null
+     */
+    public static CalendarDay from(Calendar calendar) {
+        if(calendar == null) {
+            return null;
+        }
+        return from(
+                CalendarUtils.getYear(calendar),
+                CalendarUtils.getMonth(calendar),
+                CalendarUtils.getDay(calendar)
+        );
+    }
+
+    /**
+     * @param date source to pull date information from, may be null
+     * @return a day with the date's information, or null if date is null
+     */
+    public static CalendarDay from(Date date) {
+        if(date == null) {
+            return null;
+        }
+        return from(CalendarUtils.getInstance(date));
+    }
+
+    /**
+     * @param packedKey a key as returned by {@linkplain #getPackedKey()}
+     * @return the day for the key
+     */
+    public static CalendarDay fromPackedKey(int packedKey) {
+        return from(
+                packedKey >> YEAR_SHIFT,
+                (packedKey >> MONTH_SHIFT) & MONTH_MASK,
+                packedKey & DAY_MASK
+        );
+    }
+
+    /**
+     * @return today
+     */
+    public static CalendarDay today() {
+        return from(CalendarUtils.getInstance());
+    }
+
     /**
      * @param calendar source to pull date information from for this instance
      */
@@ -35,14 +126,25 @@ public final class CalendarDay implements Parcelable {
     }
 
     /**
+     * Months outside of the year and days outside of 0 to 31 roll over
+     * into the surrounding months, as they do in a lenient {@linkplain Calendar}.
+     *
      * @param year new instance's year
      * @param month new instance's month as defined by {@linkplain java.util.Calendar}
      * @param day new instance's day of month
      */
     public CalendarDay(int year, int month, int day) {
-        this.year = year;
-        this.month = month;
-        this.day = day;
+        if(month < Calendar.JANUARY || month > Calendar.DECEMBER || day < 0 || day > 31) {
+            //These cannot be packed as they are
+            int firstDay = CalendarUtils.toEpochDay(
+                    year + CalendarUtils.floorDiv(month, 12), CalendarUtils.floorMod(month, 12), 1
+            );
+            int epochDay = firstDay + day - 1;
+            year = CalendarUtils.getYear(epochDay);
+            month = CalendarUtils.getMonth(epochDay);
+            day = CalendarUtils.getDay(epochDay);
+        }
+        this.key = (year << YEAR_SHIFT) | (month << MONTH_SHIFT) | day;
     }
 
     /**
@@ -56,21 +158,39 @@ public final class CalendarDay implements Parcelable {
      * @return the year for this day
      */
     public int getYear() {
-        return year;
+        return key >> YEAR_SHIFT;
     }
 
     /**
      * @return the month of the year as defined by {@linkplain java.util.Calendar}
      */
     public int getMonth() {
-        return month;
+        return (key >> MONTH_SHIFT) & MONTH_MASK;
     }
 
     /**
      * @return the day of the month for this day
      */
     public int getDay() {
-        return day;
+        return key & DAY_MASK;
+    }
+
+    /**
+     * The packed key orders the same way as days do, so keys can be compared,
+     * and stored in primitive collections, in place of instances.
+     *
+     * @return this day packed into an int
+     * @see #fromPackedKey(int)
+     */
+    public int getPackedKey() {
+        return key;
+    }
+
+    /**
+     * @return a key unique to this day's year and month, ordered the same way as months are
+     */
+    public int getPackedMonthKey() {
+        return key >> MONTH_SHIFT;
     }
 
     /**
@@ -94,7 +214,7 @@ public final class CalendarDay implements Parcelable {
      */
     public void copyTo(Calendar calendar) {
         calendar.clear();
-        calendar.set(year, month, day);
+        calendar.set(getYear(), getMonth(), getDay());
     }
 
     /**
@@ -115,9 +235,7 @@ public final class CalendarDay implements Parcelable {
         if(other == null) {
             throw new IllegalArgumentException("other cannot be null");
         }
-        return (year == other.year) ?
-                ((month == other.month) ? (day < other.day) : (month < other.month)) :
-                (year < other.year);
+        return key < other.key;
     }
 
     /**
@@ -128,9 +246,7 @@ public final class CalendarDay implements Parcelable {
         if(other == null) {
             throw new IllegalArgumentException("other cannot be null");
         }
-        return (year == other.year) ?
-                ((month == other.month) ? (day > other.day) : (month > other.month)) :
-                (year > other.year);
+        return key > other.key;
     }
 
     @Override
@@ -140,24 +256,22 @@ public final class CalendarDay implements Parcelable {
 
         CalendarDay that = (CalendarDay) o;
 
-        if(day != that.day) return false;
-        if(month != that.month) return false;
-        if(year != that.year) return false;
-
-        return true;
+        return key == that.key;
     }
 
     @Override
     public int hashCode() {
-        int result = year;
-        result = 31 * result + month;
-        result = 31 * result + day;
-        return result;
+        return key;
+    }
+
+    @Override
+    public int compareTo(CalendarDay other) {
+        return key < other.key ? -1 : (key == other.key ? 0 : 1);
     }
 
     @Override
     public String toString() {
-        return String.format(Locale.US, "CalendarDay{%d-%d-%d}", year, month + 1, day);
+        return String.format(Locale.US, "CalendarDay{%d-%d-%d}", getYear(), getMonth() + 1, getDay());
     }
 
     /*
@@ -175,14 +289,14 @@ public final class CalendarDay implements Parcelable {
 
     @Override
     public void writeToParcel(Parcel dest, int flags) {
-        dest.writeInt(year);
-        dest.writeInt(month);
-        dest.writeInt(day);
+        dest.writeInt(getYear());
+        dest.writeInt(getMonth());
+        dest.writeInt(getDay());
     }
 
     public static final Creator<CalendarDay> CREATOR = new Creator<CalendarDay>() {
         public CalendarDay createFromParcel(Parcel in) {
-            return new CalendarDay(in);
+            return from(in.readInt(), in.readInt(), in.readInt());
         }
 
         public CalendarDay[] newArray(int size) {
@@ -0,0 +1,91 @@
+package com.prolificinteractive.materialcalendarview;
+
+import com.prolificinteractive.materialcalendarview.format.WeekDayFormatter;
+
+/**
+ * A page of the {@linkplain MaterialCalendarView} pager displaying one month, or one week in week mode.
+ * Setters only record what changed, pages resolve their days once before they are next drawn.
+ *
+ * @see MonthView
+ * @see CanvasMonthView
+ */
+interface CalendarPage {
+
+    interface Callbacks {
+
+        /**
+         * Called when the user clicks an enabled day
+         */
+        void onDateClicked(CalendarDay date);
+    }
+
+    void setCallbacks(Callbacks callbacks);
+
+    void setWeekDayTextAppearance(int taId);
+
+    void setDateTextAppearance(int taId);
+
+    void setShowOtherDates(boolean show);
+
+    boolean getShowOtherDates();
+
+    void setSelectionColor(int color);
+
+    void setFirstDayOfWeek(int dayOfWeek);
+
+    void setWeekDayFormatter(WeekDayFormatter formatter);
+
+    void setMinimumDate(CalendarDay minDate);
+
+    void setMaximumDate(CalendarDay maxDate);
+
+    /**
+     * @param day the first day of the month or week to show
+     */
+    void setDate(CalendarDay day);
+
+    /**
+     * @return the number of weeks shown, {@linkplain MonthView#DEFAULT_MAX_WEEKS} for a month or 1 for a week
+     */
+    int getWeekCount();
+
+    /**
+     * @param selection the selected days of the calendar, shared by every page
+     */
+    void setSelection(SelectionStore selection);
+
+    /**
+     * Look up which days are selected again, after the selection changed
+     */
+    void invalidateSelection();
+
+    /**
+     * @param disabledDays the days that cannot be selected, shared by every page
+     */
+    void setDisabledDays(DisabledDays disabledDays);
+
+    /**
+     * Look up which days are disabled again, after they changed
+     */
+    void invalidateDisabledDays();
+
+    /**
+     * @param enabledDays the days allowed by the day enabled predicate, shared by every page
+     */
+    void setEnabledDays(EnabledDaysIndex enabledDays);
+
+    /**
+     * Look up the days allowed by the day enabled predicate again, after it changed
+     */
+    void invalidateDayEnabledPredicate();
+
+    /**
+     * @param decorations the decorations of the calendar, shared by every page
+     */
+    void setDecorations(DecorationIndex decorations);
+
+    /**
+     * Look up the decorations of every day again, after the decorators changed
+     */
+    void invalidateDecorations();
+}
@@ -0,0 +1,103 @@
+package com.prolificinteractive.materialcalendarview;
+
+import java.util.Locale;
+
+/**
+ * A snapshot of the work done by a {@linkplain MaterialCalendarView} since it was created
+ * or since {@linkplain MaterialCalendarView#resetStats()}, to report how the widget behaves
+ * on real devices or to assert on it in tests.
+ *
+ * @see MaterialCalendarView#getStats()
+ */
+public final class CalendarStats {
+
+    private final int pagesCreated;
+    private final int pagesDestroyed;
+    private final int pageUpdates;
+    private final int monthRebuilds;
+    private final int drawablesCreated;
+    private final int formatterCalls;
+    private final long bindNanos;
+
+    CalendarStats(CalendarCounters counters) {
+        pagesCreated = counters.pagesCreated;
+        pagesDestroyed = counters.pagesDestroyed;
+        pageUpdates = counters.pageUpdates;
+        monthRebuilds = counters.monthRebuilds;
+        drawablesCreated = counters.drawablesCreated;
+        formatterCalls = counters.formatterCalls;
+        bindNanos = counters.bindNanos;
+    }
+
+    /**
+     * @return the number of month pages constructed. Pages are recycled, so paging
+     * back and forth should not create more.
+     */
+    public int getPagesCreated() {
+        return pagesCreated;
+    }
+
+    /**
+     * @return the number of month pages dropped instead of being kept for recycling
+     */
+    public int getPagesDestroyed() {
+        return pagesDestroyed;
+    }
+
+    /**
+     * @return the number of times a page updated its days, for every page together
+     */
+    public int getPageUpdates() {
+        return pageUpdates;
+    }
+
+    /**
+     * This is an average over the pages created. Recycled pages keep updating,
+     * so it keeps growing while paging back and forth creates no more pages.
+     *
+     * @return {@linkplain #getPageUpdates()} divided by {@linkplain #getPagesCreated()}, or 0 if no page was created
+     */
+    public float getAveragePageUpdates() {
+        return pagesCreated == 0 ? 0 : (float) pageUpdates / pagesCreated;
+    }
+
+    /**
+     * @return the number of times the months shown were rebuilt, after the minimum or maximum date changed
+     */
+    public int getMonthRebuilds() {
+        return monthRebuilds;
+    }
+
+    /**
+     * @return the number of day backgrounds created for selection colors not used before.
+     * Days using a known color share its background, so they are not counted.
+     */
+    public int getDrawablesCreated() {
+        return drawablesCreated;
+    }
+
+    /**
+     * @return the number of titles and week day labels formatted. Titles and labels
+     * served from the cache of {@linkplain com.prolificinteractive.materialcalendarview.format.CachingTitleFormatter}
+     * or {@linkplain com.prolificinteractive.materialcalendarview.format.CalendarWeekDayFormatter} are not counted.
+     */
+    public int getFormatterCalls() {
+        return formatterCalls;
+    }
+
+    /**
+     * @return the time spent binding pages and updating their days, in nanoseconds
+     */
+    public long getBindNanos() {
+        return bindNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.US,
+                "CalendarStats{pagesCreated=%d, pagesDestroyed=%d, pageUpdates=%d, monthRebuilds=%d, "
+                        + "drawablesCreated=%d, formatterCalls=%d, bindNanos=%d}",
+                pagesCreated, pagesDestroyed, pageUpdates, monthRebuilds,
+                drawablesCreated, formatterCalls, bindNanos);
+    }
+}
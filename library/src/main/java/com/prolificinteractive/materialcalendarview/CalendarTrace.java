@@ -0,0 +1,57 @@
+package com.prolificinteractive.materialcalendarview;
+
+import android.os.Build;
+import android.os.Trace;
+
+/**
+ * Named sections around the hot paths of the calendar, shown in systrace and Perfetto captures.
+ * Sections are only emitted once enabled with {@linkplain MaterialCalendarView#setTracingEnabled(boolean)},
+ * and never below API 18 where {@linkplain android.os.Trace} does not exist.
+ * <p>
+ * Sections must be balanced on the thread that began them, so use
+ * <pre>{@code
+ * boolean traced = CalendarTrace.begin("MCV#section");
+ * try {
+ *     ...
+ * } finally {
+ *     CalendarTrace.end(traced);
+ * }
+ * }</pre>
+ */
+final class CalendarTrace {
+
+    private static volatile boolean enabled = false;
+
+    private CalendarTrace() {}
+
+    static void setEnabled(boolean enabled) {
+        CalendarTrace.enabled = enabled;
+    }
+
+    static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param name the name of the section, at most 127 characters
+     * @return true if a section was started, to pass to {@linkplain #end(boolean)}
+     */
+    static boolean begin(String name) {
+        //Checked inline rather than through a constant, so lint sees the calls are guarded
+        if(enabled && Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2) {
+            Trace.beginSection(name);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @param traced the result of the matching {@linkplain #begin(String)}, so disabling tracing
+     *               in the middle of a section still ends it
+     */
+    static void end(boolean traced) {
+        if(traced && Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2) {
+            Trace.endSection();
+        }
+    }
+}
@@ -10,9 +10,18 @@ import static java.util.Calendar.YEAR;
 
 /**
  * Utilities for Calendar
+ * <p>
+ * Besides the {@linkplain java.util.Calendar} helpers, this provides a pure integer date engine.
+ * Days are represented as epoch days, the number of days since 1970-01-01,
+ * following proleptic Gregorian rules. Months are 0 based as in {@linkplain java.util.Calendar}.
+ * </p>
  */
 public class CalendarUtils {
 
+    private static final int DAYS_PER_CYCLE = 146097;
+    private static final int DAYS_0000_TO_1970 = 719468;
+    private static final int[] DAYS_IN_MONTH = { 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31 };
+
     /**
      * @return a new Calendar instance with the date set to the provided date. Time set to zero.
      */
@@ -72,4 +81,187 @@ public class CalendarUtils {
     public static int getDayOfWeek(Calendar calendar) {
         return calendar.get(DAY_OF_WEEK);
     }
+
+    /**
+     * @return true if year is a leap year
+     */
+    public static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * @param year the year
+     * @param month the month as defined by {@linkplain java.util.Calendar}
+     * @return the number of days in the month
+     */
+    public static int getDaysInMonth(int year, int month) {
+        if(month == Calendar.FEBRUARY && isLeapYear(year)) {
+            return 29;
+        }
+        return DAYS_IN_MONTH[month];
+    }
+
+    /**
+     * @param year the year
+     * @param month the month as defined by {@linkplain java.util.Calendar}
+     * @param day the day of the month
+     * @return the number of days since 1970-01-01
+     */
+    public static int toEpochDay(int year, int month, int day) {
+        int y = month < Calendar.MARCH ? year - 1 : year;
+        int era = floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int monthFromMarch = (month + 10) % 12;
+        int dayOfYear = (153 * monthFromMarch + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * DAYS_PER_CYCLE + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * @return the number of days since 1970-01-01 for day
+     */
+    public static int toEpochDay(CalendarDay day) {
+        return toEpochDay(day.getYear(), day.getMonth(), day.getDay());
+    }
+
+    /**
+     * @return the number of days since 1970-01-01 for the date of calendar, ignoring time
+     */
+    public static int toEpochDay(Calendar calendar) {
+        return toEpochDay(getYear(calendar), getMonth(calendar), getDay(calendar));
+    }
+
+    /**
+     * @param epochDay the number of days since 1970-01-01
+     * @return a day for epochDay
+     */
+    public static CalendarDay fromEpochDay(int epochDay) {
+        return CalendarDay.from(getYear(epochDay), getMonth(epochDay), getDay(epochDay));
+    }
+
+    /**
+     * @param epochDay the number of days since 1970-01-01
+     * @return the year of epochDay
+     */
+    public static int getYear(int epochDay) {
+        int dayOfEra = getDayOfEra(epochDay);
+        int year = getYearOfEra(dayOfEra) + getEra(epochDay) * 400;
+        return getMonthFromMarch(dayOfEra) < 10 ? year : year + 1;
+    }
+
+    /**
+     * @param epochDay the number of days since 1970-01-01
+     * @return the month of epochDay as defined by {@linkplain java.util.Calendar}
+     */
+    public static int getMonth(int epochDay) {
+        int monthFromMarch = getMonthFromMarch(getDayOfEra(epochDay));
+        return monthFromMarch < 10 ? monthFromMarch + 2 : monthFromMarch - 10;
+    }
+
+    /**
+     * @param epochDay the number of days since 1970-01-01
+     * @return the day of the month of epochDay
+     */
+    public static int getDay(int epochDay) {
+        int dayOfYear = getDayOfYearFromMarch(getDayOfEra(epochDay));
+        int monthFromMarch = (5 * dayOfYear + 2) / 153;
+        return dayOfYear - (153 * monthFromMarch + 2) / 5 + 1;
+    }
+
+    /**
+     * @param epochDay the number of days since 1970-01-01
+     * @return the day of the week as defined by {@linkplain java.util.Calendar#DAY_OF_WEEK}
+     */
+    public static int getDayOfWeek(int epochDay) {
+        //1970-01-01 was a Thursday
+        return floorMod(epochDay + Calendar.THURSDAY - 1, 7) + 1;
+    }
+
+    /**
+     * @param epochDay the number of days since 1970-01-01
+     * @return the epoch day of the first day of the month containing epochDay
+     */
+    public static int getFirstDayOfMonth(int epochDay) {
+        return epochDay - getDay(epochDay) + 1;
+    }
+
+    /**
+     * @param epochDay       the number of days since 1970-01-01
+     * @param firstDayOfWeek the day of the week weeks start on, such as {@linkplain Calendar#SUNDAY}
+     * @return the epoch day of the first day of the week containing epochDay
+     */
+    public static int getFirstDayOfWeek(int epochDay, int firstDayOfWeek) {
+        return epochDay - floorMod(getDayOfWeek(epochDay) - firstDayOfWeek, 7);
+    }
+
+    /**
+     * Add months to a day, clamping the day of the month to the length of the resulting month.
+     *
+     * @param epochDay the number of days since 1970-01-01
+     * @param months the number of months to add, may be negative
+     * @return the resulting epoch day
+     */
+    public static int addMonths(int epochDay, int months) {
+        int monthKey = getYear(epochDay) * 12 + getMonth(epochDay) + months;
+        int year = floorDiv(monthKey, 12);
+        int month = floorMod(monthKey, 12);
+        int day = Math.min(getDay(epochDay), getDaysInMonth(year, month));
+        return toEpochDay(year, month, day);
+    }
+
+    /**
+     * Get the day of the month shown in the first cell of a month grid.
+     * The first row is dropped when it would only hold days of the previous month,
+     * unless those days are shown and the month starts on the first day of the week.
+     *
+     * @param firstDayOfWeek     the day of the week of the first column, such as {@linkplain Calendar#SUNDAY}
+     * @param firstDayOfMonthDow the day of the week of the first day of the month
+     * @param showOtherDates     true if days of the surrounding months are shown
+     * @return the day of the month of the first cell, zero or negative for days of the previous month
+     */
+    public static int getFirstCellDay(int firstDayOfWeek, int firstDayOfMonthDow, boolean showOtherDates) {
+        int delta = firstDayOfWeek - firstDayOfMonthDow;
+        //If the delta is positive, we want to remove a week
+        boolean removeRow = showOtherDates ? delta >= 0 : delta > 0;
+        if(removeRow) {
+            delta -= 7;
+        }
+        return delta + 1;
+    }
+
+    private static int getEra(int epochDay) {
+        return floorDiv(epochDay + DAYS_0000_TO_1970, DAYS_PER_CYCLE);
+    }
+
+    private static int getDayOfEra(int epochDay) {
+        return floorMod(epochDay + DAYS_0000_TO_1970, DAYS_PER_CYCLE);
+    }
+
+    private static int getYearOfEra(int dayOfEra) {
+        return (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+    }
+
+    private static int getDayOfYearFromMarch(int dayOfEra) {
+        int yearOfEra = getYearOfEra(dayOfEra);
+        return dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    }
+
+    private static int getMonthFromMarch(int dayOfEra) {
+        return (5 * getDayOfYearFromMarch(dayOfEra) + 2) / 153;
+    }
+
+    /**
+     * @return x divided by y, rounded towards negative infinity
+     */
+    static int floorDiv(int x, int y) {
+        int q = x / y;
+        return (x % y != 0 && ((x ^ y) < 0)) ? q - 1 : q;
+    }
+
+    /**
+     * @return x modulo y, with the sign of y
+     */
+    static int floorMod(int x, int y) {
+        return x - floorDiv(x, y) * y;
+    }
 }
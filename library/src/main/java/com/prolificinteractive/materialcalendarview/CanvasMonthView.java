@@ -0,0 +1,712 @@
+package com.prolificinteractive.materialcalendarview;
+
+import android.content.Context;
+import android.content.res.ColorStateList;
+import android.content.res.TypedArray;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.Typeface;
+import android.graphics.drawable.Drawable;
+import android.os.Bundle;
+import android.support.v4.view.ViewCompat;
+import android.support.v4.view.accessibility.AccessibilityNodeInfoCompat;
+import android.support.v4.widget.ExploreByTouchHelper;
+import android.text.TextPaint;
+import android.util.TypedValue;
+import android.view.MotionEvent;
+import android.view.SoundEffectConstants;
+import android.view.View;
+import android.view.ViewConfiguration;
+import android.view.accessibility.AccessibilityEvent;
+
+import com.prolificinteractive.materialcalendarview.format.WeekDayFormatter;
+
+import java.text.DateFormat;
+import java.util.List;
+
+import static java.util.Calendar.DECEMBER;
+import static java.util.Calendar.JANUARY;
+import static java.util.Calendar.SUNDAY;
+
+/**
+ * Display a month, or a single week in week mode, as a single view, drawing the week day labels,
+ * day numbers and selection directly onto the canvas.
+ * This is a lightweight alternative to {@linkplain MonthView}.
+ */
+class CanvasMonthView extends View implements CalendarPage {
+
+    private static final int DAYS_IN_WEEK = MonthView.DEFAULT_DAYS_IN_WEEK;
+
+    private static final int DEFAULT_TEXT_SIZE_SP = 12;
+    private static final float DOT_RADIUS_DP = 2f;
+
+    /**
+     * Must stay sorted by attribute id for {@linkplain Context#obtainStyledAttributes(int, int[])}
+     */
+    private static final int[] TEXT_APPEARANCE_ATTRS = {
+            android.R.attr.textSize,
+            android.R.attr.textStyle,
+            android.R.attr.textColor,
+    };
+
+    private static final int[] STATE_CHECKED = {
+            android.R.attr.state_enabled, android.R.attr.state_checked
+    };
+    private static final int[] STATE_PRESSED = {
+            android.R.attr.state_enabled, android.R.attr.state_pressed
+    };
+    private static final int[] STATE_ENABLED = { android.R.attr.state_enabled };
+    private static final int[] STATE_DISABLED = { };
+
+    private Callbacks callbacks;
+    private final CalendarCounters counters;
+
+    private final int weeks;
+    /**
+     * The week day labels and each week take a row
+     */
+    private final int rows;
+    private final int cells;
+
+    /**
+     * The month or week shown, with the first day of the week and whether other dates are shown
+     */
+    private MonthGrid grid;
+
+    private SelectionStore selection = null;
+    private int minDay = Integer.MIN_VALUE;
+    private int maxDay = Integer.MAX_VALUE;
+
+    private DecorationIndex decorations = null;
+    private DisabledDays disabledDays = null;
+    private EnabledDaysIndex enabledDays = null;
+    /**
+     * Cells allowed by the predicate, one bit per cell
+     */
+    private long enabledMask = -1L;
+
+    private int dirty = MonthView.DIRTY_ALL;
+    private int boundFirstCellEpochDay = MonthView.NO_DAY;
+
+    private int weekDayTextAppearance = 0;
+    private int dateTextAppearance = 0;
+    private int selectionColor = 0;
+
+    private WeekDayFormatter formatter = WeekDayFormatter.DEFAULT;
+    private final int[] weekDays = new int[DAYS_IN_WEEK];
+    private final CharSequence[] weekDayLabels = new CharSequence[DAYS_IN_WEEK];
+
+    private final int[] cellEpochDays;
+    private final int[] cellDays;
+    private final boolean[] enabledCells;
+    private final boolean[] visibleCells;
+    private final DayViewFacade[] cellDecorations;
+    private final boolean[] checkedCells;
+    private int pressedIndex = -1;
+    /**
+     * The cell clicked by the touch being handled by {@linkplain #performClick()}
+     */
+    private int clickedIndex = -1;
+    private float downX;
+    private float downY;
+    private final int touchSlop;
+
+    private final CellAccessibilityHelper accessibilityHelper;
+
+    private final TextPaint weekDayPaint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+    private final TextPaint dayPaint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint selectionPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint dotPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final float dotRadius;
+    private ColorStateList weekDayColors = ColorStateList.valueOf(Color.BLACK);
+    private ColorStateList dayColors = new ColorStateList(
+            new int[][] { STATE_CHECKED, STATE_PRESSED, STATE_ENABLED, STATE_DISABLED },
+            new int[] { Color.WHITE, Color.WHITE, Color.BLACK, Color.GRAY }
+    );
+
+    /**
+     * @param counters where to count the work of this page, shared by every page of the calendar
+     * @param weeks    {@linkplain MonthView#DEFAULT_MAX_WEEKS} to show months, or 1 to show weeks
+     */
+    public CanvasMonthView(Context context, CalendarCounters counters, int weeks) {
+        super(context);
+        this.counters = counters;
+        this.weeks = weeks;
+        rows = weeks + 1;
+        cells = weeks * DAYS_IN_WEEK;
+        cellEpochDays = new int[cells];
+        cellDays = new int[cells];
+        enabledCells = new boolean[cells];
+        visibleCells = new boolean[cells];
+        cellDecorations = new DayViewFacade[cells];
+        checkedCells = new boolean[cells];
+
+        float textSize = TypedValue.applyDimension(
+                TypedValue.COMPLEX_UNIT_SP, DEFAULT_TEXT_SIZE_SP, getResources().getDisplayMetrics()
+        );
+        weekDayPaint.setTextAlign(Paint.Align.CENTER);
+        weekDayPaint.setTextSize(textSize);
+        dayPaint.setTextAlign(Paint.Align.CENTER);
+        dayPaint.setTextSize(textSize);
+        selectionPaint.setColor(Color.GRAY);
+        dotRadius = getResources().getDisplayMetrics().density * DOT_RADIUS_DP;
+
+        touchSlop = ViewConfiguration.get(context).getScaledTouchSlop();
+
+        grid = MonthGrid.get(CalendarDay.today(), weeks, SUNDAY, false);
+        updateWeekDays();
+
+        accessibilityHelper = new CellAccessibilityHelper(this);
+        ViewCompat.setAccessibilityDelegate(this, accessibilityHelper);
+    }
+
+    @Override
+    public void setWeekDayTextAppearance(int taId) {
+        if(taId == weekDayTextAppearance) {
+            return;
+        }
+        weekDayTextAppearance = taId;
+        weekDayColors = applyTextAppearance(taId, weekDayPaint, weekDayColors);
+        invalidate();
+    }
+
+    @Override
+    public void setDateTextAppearance(int taId) {
+        if(taId == dateTextAppearance) {
+            return;
+        }
+        dateTextAppearance = taId;
+        dayColors = applyTextAppearance(taId, dayPaint, dayColors);
+        invalidate();
+    }
+
+    private ColorStateList applyTextAppearance(int taId, TextPaint paint, ColorStateList colors) {
+        TypedArray a = getContext().obtainStyledAttributes(taId, TEXT_APPEARANCE_ATTRS);
+        try {
+            int textSize = a.getDimensionPixelSize(0, -1);
+            if(textSize > 0) {
+                paint.setTextSize(textSize);
+            }
+            paint.setTypeface(Typeface.defaultFromStyle(a.getInt(1, Typeface.NORMAL)));
+            ColorStateList textColors = a.getColorStateList(2);
+            return textColors == null ? colors : textColors;
+        }
+        finally {
+            a.recycle();
+        }
+    }
+
+    @Override
+    public void setShowOtherDates(boolean show) {
+        if(show == grid.getShowOtherDates()) {
+            return;
+        }
+        grid = grid.with(grid.getFirstDayOfWeek(), show);
+        invalidateDays(MonthView.DIRTY_OTHER_DATES);
+    }
+
+    @Override
+    public boolean getShowOtherDates() {
+        return grid.getShowOtherDates();
+    }
+
+    @Override
+    public void setSelectionColor(int color) {
+        if(color == selectionColor) {
+            return;
+        }
+        selectionColor = color;
+        selectionPaint.setColor(color);
+        invalidate();
+    }
+
+    @Override
+    public void setFirstDayOfWeek(int dayOfWeek) {
+        if(dayOfWeek == grid.getFirstDayOfWeek()) {
+            return;
+        }
+        grid = grid.with(dayOfWeek, grid.getShowOtherDates());
+        updateWeekDays();
+        invalidateDays(MonthView.DIRTY_MONTH);
+    }
+
+    private void updateWeekDays() {
+        for(int i = 0; i < DAYS_IN_WEEK; i++) {
+            weekDays[i] = grid.getDayOfWeek(i);
+        }
+        updateWeekDayLabels();
+    }
+
+    @Override
+    public void setWeekDayFormatter(WeekDayFormatter formatter) {
+        if(formatter == null) {
+            formatter = WeekDayFormatter.DEFAULT;
+        }
+        if(formatter == this.formatter) {
+            return;
+        }
+        this.formatter = formatter;
+        updateWeekDayLabels();
+    }
+
+    private void updateWeekDayLabels() {
+        for(int i = 0; i < DAYS_IN_WEEK; i++) {
+            weekDayLabels[i] = counters.formatWeekDay(formatter, weekDays[i]);
+        }
+        invalidate();
+    }
+
+    @Override
+    public void setMinimumDate(CalendarDay minDate) {
+        int minDay = minDate == null ? Integer.MIN_VALUE : CalendarUtils.toEpochDay(minDate);
+        if(minDay != this.minDay) {
+            this.minDay = minDay;
+            invalidateDays(MonthView.DIRTY_RANGE);
+        }
+    }
+
+    @Override
+    public void setMaximumDate(CalendarDay maxDate) {
+        int maxDay = maxDate == null ? Integer.MAX_VALUE : CalendarUtils.toEpochDay(maxDate);
+        if(maxDay != this.maxDay) {
+            this.maxDay = maxDay;
+            invalidateDays(MonthView.DIRTY_RANGE);
+        }
+    }
+
+    @Override
+    public void setDate(CalendarDay day) {
+        MonthGrid grid = MonthGrid.get(day, weeks, this.grid.getFirstDayOfWeek(), this.grid.getShowOtherDates());
+        if(grid.equals(this.grid)) {
+            return;
+        }
+        this.grid = grid;
+        invalidateDays(MonthView.DIRTY_MONTH);
+    }
+
+    @Override
+    public int getWeekCount() {
+        return weeks;
+    }
+
+    @Override
+    public void setSelection(SelectionStore selection) {
+        if(selection != this.selection) {
+            this.selection = selection;
+            invalidateDays(MonthView.DIRTY_SELECTION);
+        }
+    }
+
+    @Override
+    public void invalidateSelection() {
+        invalidateDays(MonthView.DIRTY_SELECTION);
+    }
+
+    @Override
+    public void setDisabledDays(DisabledDays disabledDays) {
+        if(disabledDays != this.disabledDays) {
+            this.disabledDays = disabledDays;
+            invalidateDays(MonthView.DIRTY_RANGE);
+        }
+    }
+
+    @Override
+    public void invalidateDisabledDays() {
+        invalidateDays(MonthView.DIRTY_RANGE);
+    }
+
+    @Override
+    public void setEnabledDays(EnabledDaysIndex enabledDays) {
+        if(enabledDays != this.enabledDays) {
+            this.enabledDays = enabledDays;
+            invalidateDays(MonthView.DIRTY_PREDICATE);
+        }
+    }
+
+    @Override
+    public void invalidateDayEnabledPredicate() {
+        invalidateDays(MonthView.DIRTY_PREDICATE);
+    }
+
+    @Override
+    public void setDecorations(DecorationIndex decorations) {
+        if(decorations != this.decorations) {
+            this.decorations = decorations;
+            invalidateDays(MonthView.DIRTY_DECORATIONS);
+        }
+    }
+
+    @Override
+    public void invalidateDecorations() {
+        invalidateDays(MonthView.DIRTY_DECORATIONS);
+    }
+
+    /**
+     * Mark aspects of the days as changed, they are resolved together before the next draw
+     *
+     * @param flags a combination of the DIRTY_* flags of {@linkplain MonthView}
+     */
+    private void invalidateDays(int flags) {
+        if(dirty == 0) {
+            invalidate();
+        }
+        dirty |= flags;
+    }
+
+    /**
+     * Resolve the dirty aspects of every cell, only updating the aspects that changed
+     */
+    private void updateUi() {
+        int dirty = this.dirty;
+        if(dirty == 0) {
+            return;
+        }
+        this.dirty = 0;
+        counters.pageUpdates++;
+        long start = System.nanoTime();
+        boolean traced = CalendarTrace.begin("CanvasMonthView#updateUi");
+        try {
+            updateDays(dirty);
+        } finally {
+            CalendarTrace.end(traced);
+        }
+        counters.bindNanos += System.nanoTime() - start;
+        //Only sends an event when accessibility is enabled
+        accessibilityHelper.invalidateRoot();
+    }
+
+    /**
+     * @param dirty the aspects of the days to resolve, a combination of the DIRTY_* flags
+     */
+    private void updateDays(int dirty) {
+        MonthGrid grid = this.grid;
+        int year = grid.getYear();
+        int month = grid.getMonth();
+        boolean showOtherDates = grid.getShowOtherDates();
+        int daysInMonth = grid.getDaysInMonth();
+        int daysInPreviousMonth = grid.getDaysInPreviousMonth();
+        int day = grid.getFirstCellDay();
+        int epochDay = grid.getFirstCellEpochDay();
+        if(epochDay != boundFirstCellEpochDay) {
+            boundFirstCellEpochDay = epochDay;
+            dirty |= MonthView.DIRTY_MONTH;
+        }
+        boolean updateDays = (dirty & MonthView.DIRTY_MONTH) != 0;
+        boolean updateEnabled = (dirty & (MonthView.DIRTY_MONTH | MonthView.DIRTY_RANGE
+                | MonthView.DIRTY_OTHER_DATES | MonthView.DIRTY_PREDICATE)) != 0;
+        boolean updateChecked = (dirty & (MonthView.DIRTY_MONTH | MonthView.DIRTY_SELECTION)) != 0;
+        boolean updateDecorations = (dirty & (MonthView.DIRTY_MONTH | MonthView.DIRTY_OTHER_DATES | MonthView.DIRTY_DECORATIONS)) != 0;
+
+        DayViewFacade[] monthDecorations = null;
+        DayViewFacade[] previousDecorations = null;
+        DayViewFacade[] nextDecorations = null;
+        if(updateDecorations && decorations != null) {
+            monthDecorations = decorations.getMonth(year, month);
+            if(grid.showsPreviousMonth()) {
+                previousDecorations = month == JANUARY
+                        ? decorations.getMonth(year - 1, DECEMBER)
+                        : decorations.getMonth(year, month - 1);
+            }
+            if(grid.showsNextMonth()) {
+                nextDecorations = month == DECEMBER
+                        ? decorations.getMonth(year + 1, JANUARY)
+                        : decorations.getMonth(year, month + 1);
+            }
+        }
+
+        int firstDay = grid.getFirstDay();
+        int lastDay = grid.getLastDay();
+        //One binary search for the first cell, then the disabled intervals are walked along with the days
+        if((dirty & (MonthView.DIRTY_MONTH | MonthView.DIRTY_PREDICATE)) != 0) {
+            enabledMask = enabledDays == null ? -1L : enabledDays.getMask(epochDay, firstDay, lastDay);
+        }
+        int disabledCount = disabledDays == null || !updateEnabled ? 0 : disabledDays.size();
+        int disabledIndex = disabledCount == 0 ? 0 : disabledDays.indexOf(epochDay);
+        for(int i = 0; i < cells; i++, day++, epochDay++) {
+            if(updateDays) {
+                cellEpochDays[i] = epochDay;
+                if(day < 1) {
+                    cellDays[i] = daysInPreviousMonth + day;
+                } else if(day > daysInMonth) {
+                    cellDays[i] = day - daysInMonth;
+                } else {
+                    cellDays[i] = day;
+                }
+            }
+            if(updateEnabled) {
+                while(disabledIndex < disabledCount && disabledDays.getEnd(disabledIndex) < epochDay) {
+                    disabledIndex++;
+                }
+                boolean disabled = (disabledIndex < disabledCount && disabledDays.getStart(disabledIndex) <= epochDay)
+                        || (enabledMask & (1L << i)) == 0;
+                //Disabled days are drawn disabled, days out of the month or range are hidden
+                boolean shown = epochDay >= firstDay && epochDay <= lastDay
+                        && epochDay >= minDay && epochDay <= maxDay;
+                enabledCells[i] = shown && !disabled;
+                visibleCells[i] = shown || showOtherDates;
+            }
+            if(updateChecked) {
+                checkedCells[i] = selection != null && selection.isSelected(epochDay);
+            }
+            if(updateDecorations) {
+                DayViewFacade[] source = day < 1 ? previousDecorations
+                        : day > daysInMonth ? nextDecorations
+                        : monthDecorations;
+                cellDecorations[i] = source == null ? null : source[cellDays[i]];
+            }
+        }
+    }
+
+    @Override
+    public void setCallbacks(Callbacks callbacks) {
+        this.callbacks = callbacks;
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        super.onDraw(canvas);
+        updateUi();
+
+        float cellWidth = getWidth() / (float) DAYS_IN_WEEK;
+        float cellHeight = getHeight() / (float) rows;
+        float radius = Math.min(cellWidth, cellHeight) / 2f;
+
+        weekDayPaint.setColor(weekDayColors.getDefaultColor());
+        float y = centerBaseline(cellHeight / 2f, weekDayPaint);
+        for(int i = 0; i < DAYS_IN_WEEK; i++) {
+            CharSequence label = weekDayLabels[i];
+            if(label != null) {
+                canvas.drawText(label, 0, label.length(), cellWidth * (i + 0.5f), y, weekDayPaint);
+            }
+        }
+
+        String[] dayLabels = DayLabels.get();
+        for(int i = 0; i < cells; i++) {
+            if(!visibleCells[i]) {
+                continue;
+            }
+            float cx = cellWidth * (i % DAYS_IN_WEEK + 0.5f);
+            float cy = cellHeight * (i / DAYS_IN_WEEK + 1.5f);
+            DayViewFacade decoration = cellDecorations[i];
+
+            Drawable background = decoration == null ? null : decoration.getBackgroundDrawable();
+            if(background != null) {
+                background.setBounds(
+                        (int) (cx - cellWidth / 2f), (int) (cy - cellHeight / 2f),
+                        (int) (cx + cellWidth / 2f), (int) (cy + cellHeight / 2f)
+                );
+                background.draw(canvas);
+            }
+
+            int[] state;
+            if(!enabledCells[i]) {
+                state = STATE_DISABLED;
+            } else if(checkedCells[i]) {
+                state = STATE_CHECKED;
+            } else if(i == pressedIndex) {
+                state = STATE_PRESSED;
+            } else {
+                state = STATE_ENABLED;
+            }
+            if(state == STATE_CHECKED || state == STATE_PRESSED) {
+                canvas.drawCircle(cx, cy, radius, selectionPaint);
+            }
+
+            if(decoration != null && decoration.hasTextColor() && state == STATE_ENABLED) {
+                dayPaint.setColor(decoration.getTextColor());
+            } else {
+                dayPaint.setColor(dayColors.getColorForState(state, dayColors.getDefaultColor()));
+            }
+            dayPaint.setStrikeThruText(decoration != null && decoration.isStrikeThrough());
+            canvas.drawText(dayLabels[cellDays[i]], cx, centerBaseline(cy, dayPaint), dayPaint);
+
+            if(decoration != null && decoration.hasDotColor()) {
+                dotPaint.setColor(decoration.getDotColor());
+                canvas.drawCircle(cx, cy + cellHeight / 2f - dotRadius * 3, dotRadius, dotPaint);
+            }
+        }
+    }
+
+    private static float centerBaseline(float centerY, Paint paint) {
+        return centerY - (paint.descent() + paint.ascent()) / 2f;
+    }
+
+    /**
+     * @return the index of the cell under a point, or -1 if there is none
+     */
+    private int getCellAt(float x, float y) {
+        updateUi();
+        int width = getWidth();
+        int height = getHeight();
+        if(width <= 0 || height <= 0 || x < 0 || y < 0 || x >= width || y >= height) {
+            return -1;
+        }
+        int column = (int) (x * DAYS_IN_WEEK / width);
+        int row = (int) (y * rows / height) - 1;
+        if(row < 0) {
+            return -1;
+        }
+        return row * DAYS_IN_WEEK + column;
+    }
+
+    /**
+     * @return the index of the enabled cell under a point, or -1 if there is none
+     */
+    private int getCellIndex(float x, float y) {
+        int index = getCellAt(x, y);
+        return index >= 0 && enabledCells[index] ? index : -1;
+    }
+
+    private void getCellBounds(int index, Rect bounds) {
+        float cellWidth = getWidth() / (float) DAYS_IN_WEEK;
+        float cellHeight = getHeight() / (float) rows;
+        int column = index % DAYS_IN_WEEK;
+        int row = index / DAYS_IN_WEEK + 1;
+        bounds.set(
+                (int) (cellWidth * column), (int) (cellHeight * row),
+                (int) (cellWidth * (column + 1)), (int) (cellHeight * (row + 1))
+        );
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        pressedIndex = -1;
+        clickedIndex = -1;
+    }
+
+    @Override
+    protected boolean dispatchHoverEvent(MotionEvent event) {
+        return accessibilityHelper.dispatchHoverEvent(event) || super.dispatchHoverEvent(event);
+    }
+
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+        switch(event.getActionMasked()) {
+            case MotionEvent.ACTION_DOWN:
+                downX = event.getX();
+                downY = event.getY();
+                pressedIndex = getCellIndex(downX, downY);
+                invalidate();
+                return pressedIndex >= 0;
+            case MotionEvent.ACTION_MOVE:
+                if(pressedIndex >= 0 && (Math.abs(event.getX() - downX) > touchSlop
+                        || Math.abs(event.getY() - downY) > touchSlop
+                        || getCellAt(event.getX(), event.getY()) != pressedIndex)) {
+                    pressedIndex = -1;
+                    invalidate();
+                }
+                return true;
+            case MotionEvent.ACTION_UP:
+                int index = getCellIndex(event.getX(), event.getY());
+                if(index >= 0 && index == pressedIndex) {
+                    clickedIndex = index;
+                    performClick();
+                }
+                pressedIndex = -1;
+                invalidate();
+                return true;
+            case MotionEvent.ACTION_CANCEL:
+                pressedIndex = -1;
+                invalidate();
+                return true;
+        }
+        return pressedIndex >= 0;
+    }
+
+    @Override
+    public boolean performClick() {
+        boolean handled = super.performClick();
+        //Clicks that do not come from a touch have no cell
+        int index = clickedIndex;
+        clickedIndex = -1;
+        if(index < 0 || !enabledCells[index]) {
+            return handled;
+        }
+        playSoundEffect(SoundEffectConstants.CLICK);
+        onDayClicked(index);
+        accessibilityHelper.sendEventForVirtualView(index, AccessibilityEvent.TYPE_VIEW_CLICKED);
+        return true;
+    }
+
+    private void onDayClicked(int index) {
+        //The selection store is updated by the callbacks, which invalidate this page
+        if(callbacks != null) {
+            callbacks.onDateClicked(CalendarUtils.fromEpochDay(cellEpochDays[index]));
+        }
+    }
+
+    /**
+     * Exposes each visible cell as a virtual view, so days can be explored and clicked by accessibility services
+     */
+    private class CellAccessibilityHelper extends ExploreByTouchHelper {
+
+        private final Rect bounds = new Rect();
+        private DateFormat dateFormat = null;
+
+        public CellAccessibilityHelper(View host) {
+            super(host);
+        }
+
+        @Override
+        protected int getVirtualViewAt(float x, float y) {
+            int index = getCellAt(x, y);
+            return index >= 0 && visibleCells[index] ? index : INVALID_ID;
+        }
+
+        @Override
+        protected void getVisibleVirtualViews(List<Integer> virtualViewIds) {
+            updateUi();
+            for(int i = 0; i < cells; i++) {
+                if(visibleCells[i]) {
+                    virtualViewIds.add(i);
+                }
+            }
+        }
+
+        @Override
+        protected void onPopulateEventForVirtualView(int virtualViewId, AccessibilityEvent event) {
+            event.setContentDescription(getDescription(virtualViewId));
+        }
+
+        @Override
+        protected void onPopulateNodeForVirtualView(int virtualViewId, AccessibilityNodeInfoCompat node) {
+            updateUi();
+            getCellBounds(virtualViewId, bounds);
+            node.setBoundsInParent(bounds);
+            node.setText(DayLabels.get()[cellDays[virtualViewId]]);
+            node.setContentDescription(getDescription(virtualViewId));
+            node.setEnabled(enabledCells[virtualViewId]);
+            node.setCheckable(true);
+            node.setChecked(checkedCells[virtualViewId]);
+            node.setSelected(checkedCells[virtualViewId]);
+            if(enabledCells[virtualViewId]) {
+                node.setClickable(true);
+                node.addAction(AccessibilityNodeInfoCompat.ACTION_CLICK);
+            }
+        }
+
+        @Override
+        protected boolean onPerformActionForVirtualView(int virtualViewId, int action, Bundle arguments) {
+            if(action != AccessibilityNodeInfoCompat.ACTION_CLICK) {
+                return false;
+            }
+            updateUi();
+            if(!enabledCells[virtualViewId]) {
+                return false;
+            }
+            onDayClicked(virtualViewId);
+            sendEventForVirtualView(virtualViewId, AccessibilityEvent.TYPE_VIEW_CLICKED);
+            return true;
+        }
+
+        private CharSequence getDescription(int index) {
+            if(dateFormat == null) {
+                dateFormat = DateFormat.getDateInstance(DateFormat.LONG);
+            }
+            return dateFormat.format(CalendarUtils.fromEpochDay(cellEpochDays[index]).getDate());
+        }
+    }
+}
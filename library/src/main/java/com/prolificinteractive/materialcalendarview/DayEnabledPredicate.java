@@ -0,0 +1,17 @@
+package com.prolificinteractive.materialcalendarview;
+
+/**
+ * A rule deciding which days can be selected, such as no weekends.
+ * <p>
+ * Results are remembered for each month shown, so the rule is not evaluated again when
+ * the selection or appearance of the calendar changes. Call
+ * {@linkplain MaterialCalendarView#invalidateDayEnabledPredicate()} when the inputs of the rule change.
+ */
+public interface DayEnabledPredicate {
+
+    /**
+     * @param day a day of the month being shown
+     * @return true if the day can be selected
+     */
+    boolean isEnabled(CalendarDay day);
+}
@@ -0,0 +1,44 @@
+package com.prolificinteractive.materialcalendarview;
+
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * Labels for the days of the month, shared by every day of every calendar.
+ * Labels use the digits of the default locale, such as Arabic-Indic digits for Arabic,
+ * and are rebuilt when the default locale changes.
+ */
+final class DayLabels {
+
+    private static volatile DayLabels current = new DayLabels(Locale.getDefault());
+
+    private final Locale locale;
+    private final String[] labels = new String[32];
+
+    private DayLabels(Locale locale) {
+        this.locale = locale;
+        char zero = DecimalFormatSymbols.getInstance(locale).getZeroDigit();
+        for(int day = 1; day < labels.length; day++) {
+            if(day < 10) {
+                labels[day] = String.valueOf((char) (zero + day));
+            } else {
+                labels[day] = new String(new char[] {
+                        (char) (zero + day / 10), (char) (zero + day % 10)
+                });
+            }
+        }
+    }
+
+    /**
+     * @return labels for the default locale, indexed by day of the month
+     */
+    static String[] get() {
+        DayLabels labels = current;
+        Locale locale = Locale.getDefault();
+        if(!labels.locale.equals(locale)) {
+            labels = new DayLabels(locale);
+            current = labels;
+        }
+        return labels.labels;
+    }
+}
@@ -3,8 +3,10 @@ package com.prolificinteractive.materialcalendarview;
 import android.annotation.TargetApi;
 import android.content.Context;
 import android.content.res.ColorStateList;
+import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.LinearGradient;
+import android.graphics.Paint;
 import android.graphics.Shader;
 import android.graphics.drawable.Drawable;
 import android.graphics.drawable.RippleDrawable;
@@ -16,20 +18,53 @@ import android.view.Gravity;
 import android.view.View;
 import android.widget.CheckedTextView;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Display one day of a {@linkplain MaterialCalendarView}
  */
 class DayView extends CheckedTextView {
 
-    private CalendarDay date = new CalendarDay();
+    private static final int MAX_CACHED_BACKGROUNDS = 8;
+    private static final float DOT_RADIUS_DP = 2f;
+
+    private static final LinkedHashMap<Long, Drawable.ConstantState> BACKGROUNDS =
+            new LinkedHashMap<Long, Drawable.ConstantState>(MAX_CACHED_BACKGROUNDS, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Drawable.ConstantState> eldest) {
+                    return size() > MAX_CACHED_BACKGROUNDS;
+                }
+            };
+
+    private int year;
+    private int month;
+    private int day;
+    private String label = null;
     private int selectionColor = Color.GRAY;
 
+    private DayViewFacade decoration = null;
+    private ColorStateList textColors = null;
+    /**
+     * The colors for the last decorated text color, reused while the color does not change
+     */
+    private int decoratedColor = 0;
+    private ColorStateList decoratedTextColors = null;
+    private Paint dotPaint = null;
+
     private final int fadeTime;
+    private final float dotRadius;
+    private final CalendarCounters counters;
 
-    public DayView(Context context) {
+    /**
+     * @param counters where to count the drawables created by this day
+     */
+    public DayView(Context context, CalendarCounters counters) {
         super(context);
+        this.counters = counters;
 
         fadeTime = getResources().getInteger(android.R.integer.config_shortAnimTime);
+        dotRadius = getResources().getDisplayMetrics().density * DOT_RADIUS_DP;
 
         setSelectionColor(this.selectionColor);
 
@@ -44,18 +79,112 @@ class DayView extends CheckedTextView {
         }
     }
 
-    public void setDay(CalendarDay date) {
-        this.date = date;
-        setText(String.valueOf(date.getDay()));
+    public void setDay(int year, int month, int day) {
+        this.year = year;
+        this.month = month;
+        this.day = day;
+        String label = DayLabels.get()[day];
+        //Labels are shared, so an unchanged label is the same instance
+        if(label != this.label) {
+            this.label = label;
+            setText(label);
+        }
     }
 
     public void setSelectionColor(int color) {
         this.selectionColor = color;
-        setBackgroundDrawable(generateBackground(color, fadeTime));
+        setBackgroundDrawable(getBackground(color, fadeTime, counters));
+    }
+
+    /**
+     * @param decoration the decoration to show, or null to remove it
+     */
+    public void setDecoration(DayViewFacade decoration) {
+        if(decoration == this.decoration) {
+            return;
+        }
+        this.decoration = decoration;
+        applyTextDecoration();
+        invalidate();
+    }
+
+    /**
+     * Selected and disabled days keep the colors of the text appearance
+     */
+    private ColorStateList createDecoratedTextColors(int color) {
+        int defaultColor = textColors.getDefaultColor();
+        return new ColorStateList(
+                new int[][] {
+                        { android.R.attr.state_checked },
+                        { -android.R.attr.state_enabled },
+                        { }
+                },
+                new int[] {
+                        textColors.getColorForState(new int[] { android.R.attr.state_enabled, android.R.attr.state_checked }, defaultColor),
+                        textColors.getColorForState(new int[] { }, defaultColor),
+                        color
+                }
+        );
+    }
+
+    @Override
+    public void setTextAppearance(Context context, int resid) {
+        super.setTextAppearance(context, resid);
+        textColors = null;
+        decoratedTextColors = null;
+        applyTextDecoration();
+    }
+
+    private void applyTextDecoration() {
+        if(textColors == null) {
+            textColors = getTextColors();
+        }
+        if(decoration != null && decoration.hasTextColor()) {
+            int color = decoration.getTextColor();
+            if(decoratedTextColors == null || color != decoratedColor) {
+                decoratedColor = color;
+                decoratedTextColors = createDecoratedTextColors(color);
+            }
+            if(getTextColors() != decoratedTextColors) {
+                setTextColor(decoratedTextColors);
+            }
+        } else if(getTextColors() != textColors) {
+            setTextColor(textColors);
+        }
+        int flags = getPaintFlags();
+        if(decoration != null && decoration.isStrikeThrough()) {
+            setPaintFlags(flags | Paint.STRIKE_THRU_TEXT_FLAG);
+        } else if((flags & Paint.STRIKE_THRU_TEXT_FLAG) != 0) {
+            setPaintFlags(flags & ~Paint.STRIKE_THRU_TEXT_FLAG);
+        }
+    }
+
+    @Override
+    public void draw(Canvas canvas) {
+        Drawable background = decoration == null ? null : decoration.getBackgroundDrawable();
+        if(background != null) {
+            //Decoration backgrounds are shared, so set the bounds every time
+            background.setBounds(0, 0, getWidth(), getHeight());
+            background.draw(canvas);
+        }
+        super.draw(canvas);
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        super.onDraw(canvas);
+        if(decoration != null && decoration.hasDotColor()) {
+            if(dotPaint == null) {
+                dotPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+            }
+            dotPaint.setColor(decoration.getDotColor());
+            float cy = getHeight() - getPaddingBottom() - dotRadius * 3;
+            canvas.drawCircle(getWidth() / 2f, cy, dotRadius, dotPaint);
+        }
     }
 
     public CalendarDay getDate() {
-        return date;
+        return CalendarDay.from(year, month, day);
     }
 
     @Override
@@ -63,10 +192,36 @@ class DayView extends CheckedTextView {
         super.setEnabled(enabled);
     }
 
-    protected void setupSelection(boolean showOtherDates, boolean inRange, boolean inMonth) {
-        boolean enabled = inMonth && inRange;
-        setEnabled(enabled);
-        setVisibility(enabled || showOtherDates ? View.VISIBLE : View.INVISIBLE);
+    /**
+     * @param showOtherDates true to show days out of the month or range, disabled
+     * @param inRange  true if the day is between the minimum and maximum dates
+     * @param inMonth  true if the day is part of the month or week shown
+     * @param disabled true if the day is disabled or rejected by the predicate,
+     *                 it is still shown but cannot be selected
+     */
+    protected void setupSelection(boolean showOtherDates, boolean inRange, boolean inMonth, boolean disabled) {
+        boolean shown = inMonth && inRange;
+        setEnabled(shown && !disabled);
+        setVisibility(shown || showOtherDates ? View.VISIBLE : View.INVISIBLE);
+    }
+
+    /**
+     * Get a background for the color and fade time. Backgrounds are created once
+     * and then shared through their {@linkplain Drawable.ConstantState}, so every day
+     * using the same color shares a single backing state.
+     * Only accessed from the main thread.
+     *
+     * @param counters where to count the background if it has to be created
+     */
+    private static Drawable getBackground(int color, int fadeTime, CalendarCounters counters) {
+        long key = ((long) color << 32) | (fadeTime & 0xFFFFFFFFL);
+        Drawable.ConstantState state = BACKGROUNDS.get(key);
+        if(state == null) {
+            counters.drawablesCreated++;
+            state = generateBackground(color, fadeTime).getConstantState();
+            BACKGROUNDS.put(key, state);
+        }
+        return state.newDrawable();
     }
 
     private static Drawable generateBackground(int color, int fadeTime) {
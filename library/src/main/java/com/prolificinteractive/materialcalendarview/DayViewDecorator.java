@@ -0,0 +1,27 @@
+package com.prolificinteractive.materialcalendarview;
+
+/**
+ * Decorate days of a {@linkplain MaterialCalendarView}, for example to mark events or holidays.
+ * <p>
+ * {@linkplain #shouldDecorate(CalendarDay)} is evaluated once per day of a month and the result is
+ * cached, so it is not called again when paging back to a month.
+ * Call {@linkplain MaterialCalendarView#invalidateDecorators()} after the days to decorate changed.
+ */
+public interface DayViewDecorator {
+
+    /**
+     * Determine if a specific day should be decorated
+     *
+     * @param day the day to check
+     * @return true if this decorator should be applied to the day
+     */
+    boolean shouldDecorate(CalendarDay day);
+
+    /**
+     * Set the decoration applied to every day this decorator matches.
+     * Called once when the decorator is added or invalidated.
+     *
+     * @param view the decoration to set up
+     */
+    void decorate(DayViewFacade view);
+}
@@ -0,0 +1,97 @@
+package com.prolificinteractive.materialcalendarview;
+
+import android.graphics.drawable.Drawable;
+
+/**
+ * The decoration of a day, set up by {@linkplain DayViewDecorator#decorate(DayViewFacade)}.
+ * When several decorators match the same day, the ones added later take precedence.
+ */
+public class DayViewFacade {
+
+    private Drawable backgroundDrawable = null;
+    private boolean hasTextColor = false;
+    private int textColor = 0;
+    private boolean strikeThrough = false;
+    private boolean hasDotColor = false;
+    private int dotColor = 0;
+
+    DayViewFacade() {
+    }
+
+    /**
+     * Set a drawable to draw behind the day and its selection.
+     * The drawable is shared by every day decorated with it.
+     *
+     * @param drawable the background to draw
+     */
+    public void setBackgroundDrawable(Drawable drawable) {
+        this.backgroundDrawable = drawable;
+    }
+
+    /**
+     * @param color the color of the day's text, unless it is selected or disabled
+     */
+    public void setTextColor(int color) {
+        this.textColor = color;
+        this.hasTextColor = true;
+    }
+
+    /**
+     * @param strikeThrough true to strike through the day's text
+     */
+    public void setStrikeThrough(boolean strikeThrough) {
+        this.strikeThrough = strikeThrough;
+    }
+
+    /**
+     * Draw a dot under the day's text
+     *
+     * @param color the color of the dot
+     */
+    public void setDotColor(int color) {
+        this.dotColor = color;
+        this.hasDotColor = true;
+    }
+
+    Drawable getBackgroundDrawable() {
+        return backgroundDrawable;
+    }
+
+    boolean hasTextColor() {
+        return hasTextColor;
+    }
+
+    int getTextColor() {
+        return textColor;
+    }
+
+    boolean isStrikeThrough() {
+        return strikeThrough;
+    }
+
+    boolean hasDotColor() {
+        return hasDotColor;
+    }
+
+    int getDotColor() {
+        return dotColor;
+    }
+
+    /**
+     * Copy every aspect set on this decoration to another, overriding its values
+     */
+    void applyTo(DayViewFacade other) {
+        if(backgroundDrawable != null) {
+            other.backgroundDrawable = backgroundDrawable;
+        }
+        if(hasTextColor) {
+            other.setTextColor(textColor);
+        }
+        if(strikeThrough) {
+            other.strikeThrough = true;
+        }
+        if(hasDotColor) {
+            other.setDotColor(dotColor);
+        }
+    }
+}
@@ -0,0 +1,358 @@
+package com.prolificinteractive.materialcalendarview;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Evaluates {@linkplain DayViewDecorator}s one month at a time and caches the result,
+ * so paging back to a month does not run the decorators again.
+ * Each month is stored as an array of decorations indexed by day of the month, in a small LRU cache
+ * kept in primitive arrays, so looking up a cached month does not allocate.
+ * <p>
+ * With an executor set, months are decorated in the background. A month that is not ready yet
+ * is returned without decorations, and the {@linkplain Listener} is called on the main thread
+ * once it is. Pending months can be cancelled when they are no longer about to be shown.
+ * Only accessed from the main thread.
+ */
+final class DecorationIndex {
+
+    interface Listener {
+
+        /**
+         * Called on the main thread when a month decorated in the background is ready
+         */
+        void onMonthDecorated(int year, int month);
+    }
+
+    private static final int MAX_CACHED_MONTHS = 24;
+    private static final int MAX_DAYS_IN_MONTH = 31;
+    /**
+     * Key of an empty entry, no month has it
+     */
+    private static final int NO_MONTH = Integer.MIN_VALUE;
+
+    /**
+     * Shared by every month without decorated days
+     */
+    private static final DayViewFacade[] NO_DECORATIONS = new DayViewFacade[MAX_DAYS_IN_MONTH + 1];
+
+    private final ArrayList<DayViewDecorator> decorators = new ArrayList<>();
+    private final ArrayList<DayViewFacade> decorations = new ArrayList<>();
+
+    private Listener listener = null;
+    private Executor executor = null;
+    private Handler handler = null;
+    private final HashMap<Integer, MonthTask> pending = new HashMap<>();
+    /**
+     * Incremented whenever the decorators change, so results computed for older decorators are dropped
+     */
+    private int generation = 0;
+
+    private final int[] monthKeys = new int[MAX_CACHED_MONTHS];
+    private final DayViewFacade[][] monthDays = new DayViewFacade[MAX_CACHED_MONTHS][];
+    /**
+     * When each cached month was last looked up, the least recent one is replaced first
+     */
+    private final long[] lastUses = new long[MAX_CACHED_MONTHS];
+    private long uses = 0;
+
+    DecorationIndex() {
+        Arrays.fill(monthKeys, NO_MONTH);
+    }
+
+    void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * @param executor the executor to decorate months on, or null to decorate them synchronously
+     */
+    void setExecutor(Executor executor) {
+        if(executor == this.executor) {
+            return;
+        }
+        this.executor = executor;
+        if(executor != null && handler == null) {
+            handler = new Handler(Looper.getMainLooper());
+        }
+        clearMonths();
+    }
+
+    boolean isAsync() {
+        return executor != null;
+    }
+
+    void add(DayViewDecorator decorator) {
+        decorators.add(decorator);
+        decorations.add(createDecoration(decorator));
+        clearMonths();
+    }
+
+    void addAll(Collection<? extends DayViewDecorator> decorators) {
+        for(DayViewDecorator decorator : decorators) {
+            this.decorators.add(decorator);
+            decorations.add(createDecoration(decorator));
+        }
+        clearMonths();
+    }
+
+    void remove(DayViewDecorator decorator) {
+        int index = decorators.indexOf(decorator);
+        if(index >= 0) {
+            decorators.remove(index);
+            decorations.remove(index);
+            clearMonths();
+        }
+    }
+
+    void clear() {
+        decorators.clear();
+        decorations.clear();
+        clearMonths();
+    }
+
+    /**
+     * Set up every decoration again and drop the cached months
+     */
+    void invalidate() {
+        for(int i = 0; i < decorators.size(); i++) {
+            decorations.set(i, createDecoration(decorators.get(i)));
+        }
+        clearMonths();
+    }
+
+    private void clearMonths() {
+        generation++;
+        Arrays.fill(monthKeys, NO_MONTH);
+        Arrays.fill(monthDays, null);
+        Arrays.fill(lastUses, 0);
+        uses = 0;
+        for(MonthTask task : pending.values()) {
+            task.cancel(false);
+        }
+        pending.clear();
+    }
+
+    boolean isEmpty() {
+        return decorators.isEmpty();
+    }
+
+    /**
+     * Start decorating a month in the background if it is neither cached nor pending.
+     * Does nothing without an executor.
+     */
+    void prefetch(int year, int month) {
+        if(executor == null || decorators.isEmpty()) {
+            return;
+        }
+        int key = year * 12 + month;
+        if(getCachedMonth(key) != null || pending.containsKey(key)) {
+            return;
+        }
+        MonthTask task = new MonthTask(year, month, generation,
+                decorators.toArray(new DayViewDecorator[decorators.size()]),
+                decorations.toArray(new DayViewFacade[decorations.size()]));
+        pending.put(key, task);
+        executor.execute(task);
+    }
+
+    /**
+     * Cancel months pending in the background that are outside of a range
+     *
+     * @param firstKey the first month to keep, as year * 12 + month
+     * @param lastKey  the last month to keep, as year * 12 + month
+     */
+    void cancelOutside(int firstKey, int lastKey) {
+        Iterator<Map.Entry<Integer, MonthTask>> iterator = pending.entrySet().iterator();
+        while(iterator.hasNext()) {
+            Map.Entry<Integer, MonthTask> entry = iterator.next();
+            int key = entry.getKey();
+            if(key < firstKey || key > lastKey) {
+                entry.getValue().cancel(true);
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * @param year  the year of the month
+     * @param month the month, from {@linkplain java.util.Calendar#JANUARY} to {@linkplain java.util.Calendar#DECEMBER}
+     * @return the decorations of the month indexed by day of the month, null entries for days without decorations
+     */
+    DayViewFacade[] getMonth(int year, int month) {
+        if(decorators.isEmpty()) {
+            return NO_DECORATIONS;
+        }
+        int key = year * 12 + month;
+        DayViewFacade[] days = getCachedMonth(key);
+        if(days == null) {
+            if(executor != null) {
+                //Show the month undecorated until it is ready
+                prefetch(year, month);
+                return NO_DECORATIONS;
+            }
+            days = decorateMonth(year, month, decorators, decorations);
+            putMonth(key, days);
+        }
+        return days;
+    }
+
+    /**
+     * @return the cached decorations of a month, or null if it is not cached
+     */
+    private DayViewFacade[] getCachedMonth(int key) {
+        for(int i = 0; i < MAX_CACHED_MONTHS; i++) {
+            if(monthKeys[i] == key) {
+                lastUses[i] = ++uses;
+                return monthDays[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Cache the decorations of a month, replacing the least recently used month if the cache is full
+     */
+    private void putMonth(int key, DayViewFacade[] days) {
+        int eldest = 0;
+        for(int i = 0; i < MAX_CACHED_MONTHS; i++) {
+            if(monthKeys[i] == key) {
+                eldest = i;
+                break;
+            }
+            if(lastUses[i] < lastUses[eldest]) {
+                eldest = i;
+            }
+        }
+        monthKeys[eldest] = key;
+        monthDays[eldest] = days;
+        lastUses[eldest] = ++uses;
+    }
+
+    /**
+     * Called on the main thread with the result of a background task
+     */
+    private void onMonthDecorated(MonthTask task) {
+        Integer key = task.year * 12 + task.month;
+        if(task.generation != generation || pending.get(key) != task) {
+            return;
+        }
+        pending.remove(key);
+        DayViewFacade[] days;
+        try {
+            days = task.get();
+        }
+        catch(InterruptedException e) {
+            return;
+        }
+        catch(ExecutionException e) {
+            //Fail like a decorator evaluated on the main thread would
+            Throwable cause = e.getCause();
+            if(cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if(cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+        putMonth(key, days);
+        if(listener != null) {
+            listener.onMonthDecorated(task.year, task.month);
+        }
+    }
+
+    /**
+     * Evaluate decorators for every day of a month.
+     * Safe to call from any thread as long as the decorators are.
+     */
+    private static DayViewFacade[] decorateMonth(int year, int month,
+                                                 List<DayViewDecorator> decorators,
+                                                 List<DayViewFacade> decorations) {
+        DayViewFacade[] days = null;
+        int daysInMonth = CalendarUtils.getDaysInMonth(year, month);
+        for(int day = 1; day <= daysInMonth; day++) {
+            CalendarDay calendarDay = CalendarDay.from(year, month, day);
+            DayViewFacade decoration = null;
+            boolean merged = false;
+            for(int i = 0; i < decorators.size(); i++) {
+                if(!decorators.get(i).shouldDecorate(calendarDay)) {
+                    continue;
+                }
+                if(decoration == null) {
+                    //A single decoration is shared as is
+                    decoration = decorations.get(i);
+                } else {
+                    if(!merged) {
+                        DayViewFacade first = decoration;
+                        decoration = new DayViewFacade();
+                        first.applyTo(decoration);
+                        merged = true;
+                    }
+                    decorations.get(i).applyTo(decoration);
+                }
+            }
+            if(decoration != null) {
+                if(days == null) {
+                    days = new DayViewFacade[MAX_DAYS_IN_MONTH + 1];
+                }
+                days[day] = decoration;
+            }
+        }
+        return days == null ? NO_DECORATIONS : days;
+    }
+
+    private static DayViewFacade createDecoration(DayViewDecorator decorator) {
+        DayViewFacade decoration = new DayViewFacade();
+        decorator.decorate(decoration);
+        return decoration;
+    }
+
+    /**
+     * Decorates one month on the executor, with a snapshot of the decorators
+     * taken when it was submitted, and posts the result to the main thread
+     */
+    private final class MonthTask extends FutureTask<DayViewFacade[]> {
+
+        final int year;
+        final int month;
+        final int generation;
+
+        MonthTask(final int year, final int month, int generation,
+                  final DayViewDecorator[] decorators, final DayViewFacade[] decorations) {
+            super(new Callable<DayViewFacade[]>() {
+                @Override
+                public DayViewFacade[] call() throws Exception {
+                    return decorateMonth(year, month, Arrays.asList(decorators), Arrays.asList(decorations));
+                }
+            });
+            this.year = year;
+            this.month = month;
+            this.generation = generation;
+        }
+
+        @Override
+        protected void done() {
+            if(!isCancelled()) {
+                handler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        onMonthDecorated(MonthTask.this);
+                    }
+                });
+            }
+        }
+    }
+}
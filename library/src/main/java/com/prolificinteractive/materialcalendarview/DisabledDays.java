@@ -0,0 +1,124 @@
+package com.prolificinteractive.materialcalendarview;
+
+import java.util.Arrays;
+
+/**
+ * Days that cannot be selected, stored as sorted, disjoint and non adjacent intervals of epoch days.
+ * Looking up the intervals of a month is a binary search, after which the days of the month
+ * are walked together with the intervals.
+ */
+final class DisabledDays {
+
+    private static final int[] NO_DAYS = new int[0];
+
+    /**
+     * First day of each interval, sorted
+     */
+    private int[] starts = NO_DAYS;
+    /**
+     * Last day of each interval, inclusive
+     */
+    private int[] ends = NO_DAYS;
+    private int count = 0;
+
+    boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * @return true if the day is disabled
+     */
+    boolean contains(int epochDay) {
+        int index = indexOf(epochDay);
+        return index < count && starts[index] <= epochDay;
+    }
+
+    /**
+     * @return the index of the first interval ending on or after the day, or the number of intervals if there is none
+     */
+    int indexOf(int epochDay) {
+        int low = 0;
+        int high = count;
+        while(low < high) {
+            int mid = (low + high) >>> 1;
+            if(ends[mid] < epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    int getStart(int index) {
+        return starts[index];
+    }
+
+    int getEnd(int index) {
+        return ends[index];
+    }
+
+    /**
+     * @return the number of intervals
+     */
+    int size() {
+        return count;
+    }
+
+    void clear() {
+        starts = NO_DAYS;
+        ends = NO_DAYS;
+        count = 0;
+    }
+
+    /**
+     * Disable several intervals at once, merging them with the current ones
+     *
+     * @param from  the first day of each interval
+     * @param to    the last day of each interval, inclusive
+     * @param added the number of intervals to read from the arrays
+     */
+    void addAll(int[] from, int[] to, int added) {
+        if(added == 0) {
+            return;
+        }
+        //Pack each interval as its start in the high bits, so sorting orders them by start
+        long[] intervals = new long[count + added];
+        for(int i = 0; i < count; i++) {
+            intervals[i] = pack(starts[i], ends[i]);
+        }
+        for(int i = 0; i < added; i++) {
+            int start = Math.min(from[i], to[i]);
+            int end = Math.max(from[i], to[i]);
+            intervals[count + i] = pack(start, end);
+        }
+        Arrays.sort(intervals);
+
+        int[] starts = new int[intervals.length];
+        int[] ends = new int[intervals.length];
+        int merged = 0;
+        for(long interval : intervals) {
+            int start = (int) (interval >> 32);
+            int end = (int) interval;
+            //Merge overlapping and adjacent intervals
+            if(merged > 0 && (long) start <= (long) ends[merged - 1] + 1) {
+                ends[merged - 1] = Math.max(ends[merged - 1], end);
+            } else {
+                starts[merged] = start;
+                ends[merged] = end;
+                merged++;
+            }
+        }
+        this.starts = starts;
+        this.ends = ends;
+        this.count = merged;
+    }
+
+    void add(int from, int to) {
+        addAll(new int[] { from }, new int[] { to }, 1);
+    }
+
+    private static long pack(int start, int end) {
+        return ((long) start << 32) | (end & 0xFFFFFFFFL);
+    }
+}
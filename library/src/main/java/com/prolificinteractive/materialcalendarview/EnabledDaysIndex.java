@@ -0,0 +1,121 @@
+package com.prolificinteractive.materialcalendarview;
+
+import java.util.Arrays;
+
+/**
+ * Evaluates a {@linkplain DayEnabledPredicate} one month at a time and caches the result,
+ * so binding a page or paging back to a month does not run the predicate again.
+ * Each month is stored as one bit per day of the month, in a small LRU cache keyed by month.
+ * The cache is kept in primitive arrays, so looking up a month does not allocate.
+ * Only accessed from the main thread.
+ */
+final class EnabledDaysIndex {
+
+    private static final int MAX_CACHED_MONTHS = 24;
+    /**
+     * Key of an empty entry, no month has it
+     */
+    private static final int NO_MONTH = Integer.MIN_VALUE;
+
+    private DayEnabledPredicate predicate = null;
+
+    private final int[] monthKeys = new int[MAX_CACHED_MONTHS];
+    /**
+     * The enabled days of each cached month, bit 0 for the first day of the month
+     */
+    private final int[] monthDays = new int[MAX_CACHED_MONTHS];
+    /**
+     * When each cached month was last looked up, the least recent one is replaced first
+     */
+    private final long[] lastUses = new long[MAX_CACHED_MONTHS];
+    private long uses = 0;
+
+    EnabledDaysIndex() {
+        clear();
+    }
+
+    /**
+     * @param predicate the rule for the days that can be selected, or null to allow every day
+     */
+    void setPredicate(DayEnabledPredicate predicate) {
+        this.predicate = predicate;
+        clear();
+    }
+
+    DayEnabledPredicate getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Drop the cached months, so the predicate is evaluated again
+     */
+    void clear() {
+        Arrays.fill(monthKeys, NO_MONTH);
+        Arrays.fill(lastUses, 0);
+        uses = 0;
+    }
+
+    /**
+     * Get the enabled days of a month or week shown in a grid
+     *
+     * @param firstCellEpochDay the epoch day of the first cell of the grid
+     * @param firstDay          the epoch day of the first day of the month or week
+     * @param lastDay           the epoch day of the last day of the month or week
+     * @return one bit per cell, set if the predicate allows its day. Days outside of firstDay and lastDay are never allowed.
+     */
+    long getMask(int firstCellEpochDay, int firstDay, int lastDay) {
+        if(predicate == null) {
+            return -1L;
+        }
+        long mask = 0;
+        int epochDay = firstDay;
+        //A week can span two months
+        while(epochDay <= lastDay) {
+            int year = CalendarUtils.getYear(epochDay);
+            int month = CalendarUtils.getMonth(epochDay);
+            int firstDayOfMonth = epochDay - CalendarUtils.getDay(epochDay) + 1;
+            int end = Math.min(lastDay, firstDayOfMonth + CalendarUtils.getDaysInMonth(year, month) - 1);
+            int days = getMonth(year, month);
+            for(; epochDay <= end; epochDay++) {
+                int cell = epochDay - firstCellEpochDay;
+                if(cell >= 0 && cell < Long.SIZE && (days & (1 << (epochDay - firstDayOfMonth))) != 0) {
+                    mask |= 1L << cell;
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * @param year  the year of the month
+     * @param month the month, from {@linkplain java.util.Calendar#JANUARY} to {@linkplain java.util.Calendar#DECEMBER}
+     * @return one bit per day of the month, set if the predicate allows the day, bit 0 for the first day
+     */
+    int getMonth(int year, int month) {
+        if(predicate == null) {
+            return -1;
+        }
+        int key = year * 12 + month;
+        int eldest = 0;
+        for(int i = 0; i < MAX_CACHED_MONTHS; i++) {
+            if(monthKeys[i] == key) {
+                lastUses[i] = ++uses;
+                return monthDays[i];
+            }
+            if(lastUses[i] < lastUses[eldest]) {
+                eldest = i;
+            }
+        }
+        int days = 0;
+        int daysInMonth = CalendarUtils.getDaysInMonth(year, month);
+        for(int day = 1; day <= daysInMonth; day++) {
+            if(predicate.isEnabled(CalendarDay.from(year, month, day))) {
+                days |= 1 << (day - 1);
+            }
+        }
+        monthKeys[eldest] = key;
+        monthDays[eldest] = days;
+        lastUses[eldest] = ++uses;
+        return days;
+    }
+}
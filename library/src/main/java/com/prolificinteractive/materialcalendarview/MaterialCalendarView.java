@@ -23,15 +23,19 @@ import android.widget.LinearLayout;
 import android.widget.TextView;
 
 import com.prolificinteractive.materialcalendarview.format.ArrayWeekDayFormatter;
+import com.prolificinteractive.materialcalendarview.format.CachingTitleFormatter;
 import com.prolificinteractive.materialcalendarview.format.DateFormatTitleFormatter;
 import com.prolificinteractive.materialcalendarview.format.MonthArrayTitleFormatter;
 import com.prolificinteractive.materialcalendarview.format.TitleFormatter;
 import com.prolificinteractive.materialcalendarview.format.WeekDayFormatter;
 
-import java.util.ArrayList;
+import java.util.ArrayDeque;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Date;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * <p>
@@ -55,10 +59,77 @@ import java.util.LinkedList;
  * @see R.styleable#MaterialCalendarView_mcv_dateTextAppearance
  * @see R.styleable#MaterialCalendarView_mcv_weekDayTextAppearance
  * @see R.styleable#MaterialCalendarView_mcv_showOtherDates
+ * @see R.styleable#MaterialCalendarView_mcv_renderer
+ * @see R.styleable#MaterialCalendarView_mcv_selectionMode
+ * @see R.styleable#MaterialCalendarView_mcv_transition
+ * @see R.styleable#MaterialCalendarView_mcv_calendarMode
  */
 public class MaterialCalendarView extends FrameLayout {
 
-    private static final TitleFormatter DEFAULT_TITLE_FORMATTER = new DateFormatTitleFormatter();
+    /**
+     * Each month is a tree of views, with one view per day. This is the default.
+     */
+    public static final int RENDERER_VIEWS = 0;
+
+    /**
+     * Each month is a single view drawing all of its days.
+     * This greatly reduces the number of views created by the calendar.
+     */
+    public static final int RENDERER_CANVAS = 1;
+
+    /**
+     * Only one day can be selected at a time. This is the default.
+     */
+    public static final int SELECTION_MODE_SINGLE = 1;
+
+    /**
+     * Clicking a day toggles whether it is selected, any number of days can be selected
+     */
+    public static final int SELECTION_MODE_MULTIPLE = 2;
+
+    /**
+     * Clicking a day starts a new range, clicking a second day selects every day in between
+     */
+    public static final int SELECTION_MODE_RANGE = 3;
+
+    /**
+     * Pages fade while they slide. This is the default.
+     * While paging, pages are drawn into hardware layers so fading them does not need an offscreen pass.
+     */
+    public static final int TRANSITION_FADE = 0;
+
+    /**
+     * Pages only slide, which needs neither layers nor offscreen passes
+     */
+    public static final int TRANSITION_SLIDE = 1;
+
+    /**
+     * Pages slide when swiped, but the arrows and {@linkplain #setCurrentDate(CalendarDay)}
+     * change the month at once, without animating
+     */
+    public static final int TRANSITION_NONE = 2;
+
+    /**
+     * Each page shows a month. This is the default.
+     */
+    public static final int MODE_MONTH = 0;
+
+    /**
+     * Each page shows a single week of 7 days, and the calendar pages one week at a time.
+     * This creates a sixth of the days of a month page, for screens only needing a week strip.
+     */
+    public static final int MODE_WEEK = 1;
+
+    private static final ViewPager.PageTransformer FADE_TRANSFORMER = new ViewPager.PageTransformer() {
+        @Override
+        public void transformPage(View page, float position) {
+            position = (float) Math.sqrt(1 - Math.abs(position));
+            page.setAlpha(position);
+        }
+    };
+
+    private static final TitleFormatter DEFAULT_TITLE_FORMATTER =
+            new CachingTitleFormatter(new DateFormatTitleFormatter());
 
     private final TextView title;
     private final DirectionButton buttonPast;
@@ -67,14 +138,14 @@ public class MaterialCalendarView extends FrameLayout {
     private final MonthPagerAdapter adapter;
     private CalendarDay currentMonth;
     private TitleFormatter titleFormatter = DEFAULT_TITLE_FORMATTER;
+    private int transition = TRANSITION_FADE;
+    private int scrollState = ViewPager.SCROLL_STATE_IDLE;
 
-    private final MonthView.Callbacks monthViewCallbacks = new MonthView.Callbacks() {
+    private final CalendarPage.Callbacks monthViewCallbacks = new CalendarPage.Callbacks() {
         @Override
-        public void onDateChanged(CalendarDay date) {
-            setSelectedDate(date);
-
-            if(listener != null) {
-                listener.onDateChanged(MaterialCalendarView.this, date);
+        public void onDateClicked(CalendarDay date) {
+            if(adapter.onDateClicked(date)) {
+                dispatchOnDateChanged(date);
             }
         }
     };
@@ -82,10 +153,11 @@ public class MaterialCalendarView extends FrameLayout {
     private final OnClickListener onClickListener = new OnClickListener() {
         @Override
         public void onClick(View v) {
+            boolean smoothScroll = transition != TRANSITION_NONE;
             if(v == buttonFuture) {
-                pager.setCurrentItem(pager.getCurrentItem() + 1, true);
+                pager.setCurrentItem(pager.getCurrentItem() + 1, smoothScroll);
             } else if(v == buttonPast) {
-                pager.setCurrentItem(pager.getCurrentItem() - 1, true);
+                pager.setCurrentItem(pager.getCurrentItem() - 1, smoothScroll);
             }
         }
     };
@@ -93,11 +165,17 @@ public class MaterialCalendarView extends FrameLayout {
     private final ViewPager.OnPageChangeListener pageChangeListener = new ViewPager.OnPageChangeListener() {
         @Override
         public void onPageSelected(int position) {
+            int previousPosition = adapter.getIndexForDay(currentMonth);
             currentMonth = adapter.getItem(position);
+            adapter.prefetchDecorations(position, position - previousPosition);
             updateUi();
         }
 
-        @Override public void onPageScrollStateChanged(int state) {}
+        @Override
+        public void onPageScrollStateChanged(int state) {
+            //The pager puts its pages in hardware layers while a transformer is set and it is scrolling
+            scrollState = state;
+        }
 
         @Override public void onPageScrolled(int position, float positionOffset, int positionOffsetPixels) {}
     };
@@ -136,13 +214,7 @@ public class MaterialCalendarView extends FrameLayout {
         adapter = new MonthPagerAdapter(this);
         pager.setAdapter(adapter);
         pager.setOnPageChangeListener(pageChangeListener);
-        pager.setPageTransformer(false, new ViewPager.PageTransformer() {
-            @Override
-            public void transformPage(View page, float position) {
-                position = (float) Math.sqrt(1 - Math.abs(position));
-                page.setAlpha(position);
-            }
-        });
+        pager.setPageTransformer(false, FADE_TRANSFORMER);
 
         adapter.setCallbacks(monthViewCallbacks);
 
@@ -192,6 +264,22 @@ public class MaterialCalendarView extends FrameLayout {
                     R.styleable.MaterialCalendarView_mcv_showOtherDates,
                     false
             ));
+            setRenderer(a.getInt(
+                    R.styleable.MaterialCalendarView_mcv_renderer,
+                    RENDERER_VIEWS
+            ));
+            setSelectionMode(a.getInt(
+                    R.styleable.MaterialCalendarView_mcv_selectionMode,
+                    SELECTION_MODE_SINGLE
+            ));
+            setTransition(a.getInt(
+                    R.styleable.MaterialCalendarView_mcv_transition,
+                    TRANSITION_FADE
+            ));
+            setCalendarMode(a.getInt(
+                    R.styleable.MaterialCalendarView_mcv_calendarMode,
+                    MODE_MONTH
+            ));
         }
         catch (Exception e) {
             Log.e("Attr Error", "error" , e);
@@ -200,7 +288,7 @@ public class MaterialCalendarView extends FrameLayout {
             a.recycle();
         }
 
-        currentMonth = new CalendarDay();
+        currentMonth = CalendarDay.today();
         setCurrentDate(currentMonth);
     }
 
@@ -258,26 +346,38 @@ public class MaterialCalendarView extends FrameLayout {
     }
 
     private void updateUi() {
-        if(currentMonth != null) {
-            title.setText(titleFormatter.format(currentMonth));
+        boolean traced = CalendarTrace.begin("MCV#updateTitle");
+        try {
+            if(currentMonth != null) {
+                title.setText(adapter.getCounters().formatTitle(titleFormatter, currentMonth));
+            }
+            buttonPast.setEnabled(canGoBack());
+            buttonFuture.setEnabled(canGoForward());
+        } finally {
+            CalendarTrace.end(traced);
         }
-        buttonPast.setEnabled(canGoBack());
-        buttonFuture.setEnabled(canGoForward());
     }
 
     /**
      * Set the size of each tile that makes up the calendar.
-     * Each day is 1 tile, so the widget is 7 tiles wide and 8 tiles tall.
+     * Each day is 1 tile, so the widget is 7 tiles wide and 8 tiles tall, or 3 tiles tall in {@linkplain #MODE_WEEK}.
      *
      * @param size the new size for each tile in pixels
      */
     public void setTileSize(int size) {
+        //The week day labels and each week of a page take a tile
+        int pageTiles = adapter.getPageWeeks() + 1;
         LayoutParams p = new LayoutParams(
                 size * MonthView.DEFAULT_DAYS_IN_WEEK,
-                size * (MonthView.DEFAULT_MONTH_TILE_HEIGHT + 1)
+                size * (pageTiles + 1)
         );
         p.gravity = Gravity.CENTER;
         root.setLayoutParams(p);
+        LinearLayout.LayoutParams pagerParams = (LinearLayout.LayoutParams) pager.getLayoutParams();
+        if(pagerParams.weight != pageTiles) {
+            pagerParams.weight = pageTiles;
+            pager.setLayoutParams(pagerParams);
+        }
     }
 
     /**
@@ -370,27 +470,220 @@ public class MaterialCalendarView extends FrameLayout {
     }
 
     /**
-     * @return the currently selected day, or null if no selection
+     * @return the currently selected day, or null if no selection.
+     * With several days selected, this is the earliest one.
      */
     public CalendarDay getSelectedDate() {
         return adapter.getSelectedDate();
     }
 
+    /**
+     * @return every selected day in order, empty if there is no selection
+     */
+    public List<CalendarDay> getSelectedDates() {
+        return adapter.getSelectedDates();
+    }
+
+    /**
+     * @param day a day to check
+     * @return true if the day is selected
+     */
+    public boolean isDateSelected(CalendarDay day) {
+        return day != null && adapter.isSelected(day);
+    }
+
+    /**
+     * Select or deselect a day. In {@linkplain #SELECTION_MODE_SINGLE},
+     * selecting a day deselects the previous one.
+     *
+     * @param day      the day to change
+     * @param selected true to select the day, false to deselect it
+     */
+    public void setDateSelected(CalendarDay day, boolean selected) {
+        if(day == null) {
+            return;
+        }
+        adapter.setDateSelected(day, selected);
+    }
+
+    /**
+     * Select every day from one day to another, inclusive.
+     * In {@linkplain #SELECTION_MODE_MULTIPLE} the days are added to the selection,
+     * in {@linkplain #SELECTION_MODE_RANGE} they replace it.
+     *
+     * @param from the first day of the range
+     * @param to   the last day of the range
+     * @throws IllegalStateException in {@linkplain #SELECTION_MODE_SINGLE}
+     */
+    public void selectRange(CalendarDay from, CalendarDay to) {
+        if(from == null || to == null) {
+            throw new IllegalArgumentException("Range days cannot be null");
+        }
+        adapter.selectRange(from, to);
+    }
+
+    /**
+     * Deselect every day
+     */
+    public void clearSelection() {
+        adapter.clearSelection();
+    }
+
+    /**
+     * Set how clicking days changes the selection. Switching to {@linkplain #SELECTION_MODE_SINGLE}
+     * keeps only the earliest selected day.
+     *
+     * @param mode one of {@linkplain #SELECTION_MODE_SINGLE}, {@linkplain #SELECTION_MODE_MULTIPLE}
+     *             or {@linkplain #SELECTION_MODE_RANGE}
+     */
+    public void setSelectionMode(int mode) {
+        if(mode != SELECTION_MODE_SINGLE && mode != SELECTION_MODE_MULTIPLE && mode != SELECTION_MODE_RANGE) {
+            throw new IllegalArgumentException("Unknown selection mode: " + mode);
+        }
+        adapter.setSelectionMode(mode);
+    }
+
+    /**
+     * @return the selection mode, one of {@linkplain #SELECTION_MODE_SINGLE},
+     * {@linkplain #SELECTION_MODE_MULTIPLE} or {@linkplain #SELECTION_MODE_RANGE}
+     */
+    public int getSelectionMode() {
+        return adapter.getSelectionMode();
+    }
+
+    /**
+     * Disable days, in addition to the days before the minimum or after the maximum date.
+     * Disabled days are shown but cannot be selected.
+     *
+     * @param days the days to disable
+     */
+    public void addDisabledDates(Collection<CalendarDay> days) {
+        if(days == null || days.isEmpty()) {
+            return;
+        }
+        int[] epochDays = new int[days.size()];
+        int count = 0;
+        for(CalendarDay day : days) {
+            if(day != null) {
+                epochDays[count++] = CalendarUtils.toEpochDay(day);
+            }
+        }
+        adapter.addDisabledDays(epochDays, epochDays, count);
+    }
+
+    /**
+     * Disable every day from one day to another, inclusive
+     *
+     * @param from the first day to disable
+     * @param to   the last day to disable
+     * @see #addDisabledDates(Collection)
+     */
+    public void addDisabledRange(CalendarDay from, CalendarDay to) {
+        if(from == null || to == null) {
+            throw new IllegalArgumentException("Range days cannot be null");
+        }
+        int[] start = { CalendarUtils.toEpochDay(from) };
+        int[] end = { CalendarUtils.toEpochDay(to) };
+        adapter.addDisabledDays(start, end, 1);
+    }
+
+    /**
+     * Enable every day disabled with {@linkplain #addDisabledDates(Collection)}
+     * or {@linkplain #addDisabledRange(CalendarDay, CalendarDay)}
+     */
+    public void clearDisabledDates() {
+        adapter.clearDisabledDays();
+    }
+
+    /**
+     * @param day a day to check
+     * @return true if the day was disabled with {@linkplain #addDisabledDates(Collection)}
+     * or {@linkplain #addDisabledRange(CalendarDay, CalendarDay)}
+     */
+    public boolean isDateDisabled(CalendarDay day) {
+        return day != null && adapter.isDisabled(day);
+    }
+
+    /**
+     * Set a rule deciding which days can be selected, in addition to the minimum and maximum dates
+     * and the disabled dates. Its results are remembered for each month shown.
+     *
+     * @param predicate the rule, or null to allow every day
+     */
+    public void setDayEnabledPredicate(DayEnabledPredicate predicate) {
+        adapter.setDayEnabledPredicate(predicate);
+    }
+
+    /**
+     * Evaluate the day enabled predicate again, for when the inputs of its rule changed
+     */
+    public void invalidateDayEnabledPredicate() {
+        adapter.invalidateDayEnabledPredicate();
+    }
+
+    /**
+     * Emit named trace sections around the work of every calendar, such as binding pages
+     * and updating their days, to find out which part of the widget costs a frame in systrace
+     * or Perfetto captures. Sections are never emitted below API 18. Off by default.
+     *
+     * @param enabled true to emit trace sections
+     */
+    public static void setTracingEnabled(boolean enabled) {
+        CalendarTrace.setEnabled(enabled);
+    }
+
+    /**
+     * @return true if trace sections are emitted
+     * @see #setTracingEnabled(boolean)
+     */
+    public static boolean isTracingEnabled() {
+        return CalendarTrace.isEnabled();
+    }
+
+    /**
+     * @return a snapshot of the work done by this calendar since it was created or since {@linkplain #resetStats()}
+     */
+    public CalendarStats getStats() {
+        return new CalendarStats(adapter.getCounters());
+    }
+
+    /**
+     * Start counting the work done by this calendar from zero
+     */
+    public void resetStats() {
+        adapter.getCounters().reset();
+    }
+
+    /**
+     * @return the counts of the work done by this calendar and its pages
+     */
+    CalendarCounters getCounters() {
+        return adapter.getCounters();
+    }
+
+    private void dispatchOnDateChanged(CalendarDay date) {
+        if(listener != null) {
+            listener.onDateChanged(this, date);
+        }
+    }
+
     /**
      * @param calendar a Calendar set to a day to select
      */
     public void setSelectedDate(Calendar calendar) {
-        setSelectedDate(new CalendarDay(calendar));
+        setSelectedDate(CalendarDay.from(calendar));
     }
 
     /**
      * @param date a Date to set as selected
      */
     public void setSelectedDate(Date date) {
-        setSelectedDate(new CalendarDay(date));
+        setSelectedDate(CalendarDay.from(date));
     }
 
     /**
+     * Select a single day, deselecting any other day
+     *
      * @param day a CalendarDay to set as selected
      */
     public void setSelectedDate(CalendarDay day) {
@@ -402,18 +695,18 @@ public class MaterialCalendarView extends FrameLayout {
      * @param calendar a Calendar set to a day to focus the calendar on
      */
     public void setCurrentDate(Calendar calendar) {
-        setCurrentDate(new CalendarDay(calendar));
+        setCurrentDate(CalendarDay.from(calendar));
     }
 
     /**
      * @param date a Date to focus the calendar on
      */
     public void setCurrentDate(Date date) {
-        setCurrentDate(new CalendarDay(date));
+        setCurrentDate(CalendarDay.from(date));
     }
 
     /**
-     * @return The current day shown, will be set to first day of the month
+     * @return The current day shown, will be set to first day of the month, or of the week in {@linkplain #MODE_WEEK}
      */
     public CalendarDay getCurrentDate() {
         return adapter.getItem(pager.getCurrentItem());
@@ -424,7 +717,7 @@ public class MaterialCalendarView extends FrameLayout {
      */
     public void setCurrentDate(CalendarDay day) {
         int index = adapter.getIndexForDay(day);
-        pager.setCurrentItem(index);
+        pager.setCurrentItem(index, transition != TRANSITION_NONE);
         updateUi();
     }
 
@@ -439,7 +732,7 @@ public class MaterialCalendarView extends FrameLayout {
      * @param calendar set the minimum selectable date, null for no minimum
      */
     public void setMinimumDate(Calendar calendar) {
-        setMinimumDate(calendar == null ? null : new CalendarDay(calendar));
+        setMinimumDate(CalendarDay.from(calendar));
         setRangeDates(minDate, maxDate);
     }
 
@@ -447,7 +740,7 @@ public class MaterialCalendarView extends FrameLayout {
      * @param date set the minimum selectable date, null for no minimum
      */
     public void setMinimumDate(Date date) {
-        setMinimumDate(date == null ? null : new CalendarDay(date));
+        setMinimumDate(CalendarDay.from(date));
         setRangeDates(minDate, maxDate);
     }
 
@@ -470,7 +763,7 @@ public class MaterialCalendarView extends FrameLayout {
      * @param calendar set the maximum selectable date, null for no maximum
      */
     public void setMaximumDate(Calendar calendar) {
-        setMaximumDate(calendar == null ? null : new CalendarDay(calendar));
+        setMaximumDate(CalendarDay.from(calendar));
         setRangeDates(minDate, maxDate);
     }
 
@@ -478,7 +771,7 @@ public class MaterialCalendarView extends FrameLayout {
      * @param date set the maximum selectable date, null for no maximum
      */
     public void setMaximumDate(Date date) {
-        setMaximumDate(date == null ? null : new CalendarDay(date));
+        setMaximumDate(CalendarDay.from(date));
         setRangeDates(minDate, maxDate);
     }
 
@@ -502,6 +795,145 @@ public class MaterialCalendarView extends FrameLayout {
         adapter.setShowOtherDates(showOtherDates);
     }
 
+    /**
+     * Set how each month of the calendar is rendered.
+     *
+     * @param renderer either {@linkplain #RENDERER_VIEWS} or {@linkplain #RENDERER_CANVAS}
+     */
+    public void setRenderer(int renderer) {
+        if(renderer != RENDERER_VIEWS && renderer != RENDERER_CANVAS) {
+            throw new IllegalArgumentException("Unknown renderer: " + renderer);
+        }
+        adapter.setRenderer(renderer);
+    }
+
+    /**
+     * @return the renderer used for each month, either {@linkplain #RENDERER_VIEWS} or {@linkplain #RENDERER_CANVAS}
+     */
+    public int getRenderer() {
+        return adapter.getRenderer();
+    }
+
+    /**
+     * Set how pages change when paging between months.
+     *
+     * @param transition one of {@linkplain #TRANSITION_FADE}, {@linkplain #TRANSITION_SLIDE}
+     *                   or {@linkplain #TRANSITION_NONE}
+     */
+    public void setTransition(int transition) {
+        if(transition != TRANSITION_FADE && transition != TRANSITION_SLIDE && transition != TRANSITION_NONE) {
+            throw new IllegalArgumentException("Unknown transition: " + transition);
+        }
+        if(transition == this.transition) {
+            return;
+        }
+        this.transition = transition;
+        if(transition == TRANSITION_FADE) {
+            pager.setPageTransformer(false, FADE_TRANSFORMER);
+            return;
+        }
+        //Without a transformer, pages are only moved by the pager and need no layers
+        pager.setPageTransformer(false, null);
+        for(int i = 0; i < pager.getChildCount(); i++) {
+            resetPage(pager.getChildAt(i));
+        }
+    }
+
+    /**
+     * @return how pages change when paging, one of {@linkplain #TRANSITION_FADE},
+     * {@linkplain #TRANSITION_SLIDE} or {@linkplain #TRANSITION_NONE}
+     */
+    public int getTransition() {
+        return transition;
+    }
+
+    /**
+     * @return true if a page added now should be drawn into a hardware layer,
+     * like the pages the pager put in layers when it started scrolling
+     */
+    private boolean isPageLayerNeeded() {
+        return transition == TRANSITION_FADE && scrollState != ViewPager.SCROLL_STATE_IDLE;
+    }
+
+    /**
+     * Remove what a transition left on a page, its alpha and hardware layer
+     */
+    private static void resetPage(View page) {
+        page.setAlpha(1f);
+        if(page.getLayerType() != View.LAYER_TYPE_NONE) {
+            page.setLayerType(View.LAYER_TYPE_NONE, null);
+        }
+    }
+
+    /**
+     * Set what each page of the calendar shows. In {@linkplain #MODE_WEEK}, selection, ranges, decorators
+     * and formatters work as with months, days of the next month are shown when a week crosses months,
+     * and {@linkplain #setShowOtherDates(boolean)} only controls showing days out of the min-max range.
+     * The calendar keeps showing the selected day if it is on the current page.
+     *
+     * @param mode either {@linkplain #MODE_MONTH} or {@linkplain #MODE_WEEK}
+     */
+    public void setCalendarMode(int mode) {
+        if(mode != MODE_MONTH && mode != MODE_WEEK) {
+            throw new IllegalArgumentException("Unknown calendar mode: " + mode);
+        }
+        if(mode == adapter.getCalendarMode()) {
+            return;
+        }
+        CalendarDay day = currentMonth;
+        CalendarDay selected = getSelectedDate();
+        if(selected != null && adapter.getIndexForDay(selected) == pager.getCurrentItem()) {
+            day = selected;
+        }
+        int tileSize = root.getLayoutParams().width / MonthView.DEFAULT_DAYS_IN_WEEK;
+        adapter.setCalendarMode(mode);
+        setTileSize(tileSize);
+        showPageOf(day);
+        updateUi();
+    }
+
+    /**
+     * @return what each page shows, either {@linkplain #MODE_MONTH} or {@linkplain #MODE_WEEK}
+     */
+    public int getCalendarMode() {
+        return adapter.getCalendarMode();
+    }
+
+    /**
+     * Show the page containing a day without animating, after the pages changed
+     *
+     * @param day a day to show, null for the middle page
+     */
+    private void showPageOf(CalendarDay day) {
+        int position = adapter.getIndexForDay(day);
+        currentMonth = adapter.getItem(position);
+        pager.setCurrentItem(position, false);
+    }
+
+    /**
+     * Set the first day of the week, which is shown in the first column.
+     *
+     * @param dayOfWeek a day of the week as defined by {@linkplain java.util.Calendar#DAY_OF_WEEK},
+     *                  such as {@linkplain java.util.Calendar#SUNDAY}
+     */
+    public void setFirstDayOfWeek(int dayOfWeek) {
+        if(dayOfWeek < Calendar.SUNDAY || dayOfWeek > Calendar.SATURDAY) {
+            throw new IllegalArgumentException("Invalid day of week: " + dayOfWeek);
+        }
+        CalendarDay c = currentMonth;
+        if(adapter.setFirstDayOfWeek(dayOfWeek)) {
+            showPageOf(c);
+            updateUi();
+        }
+    }
+
+    /**
+     * @return the first day of the week as defined by {@linkplain java.util.Calendar#DAY_OF_WEEK}
+     */
+    public int getFirstDayOfWeek() {
+        return adapter.getFirstDayOfWeek();
+    }
+
     /**
      * Set a formatter for weekday labels.
      *
@@ -579,6 +1011,85 @@ public class MaterialCalendarView extends FrameLayout {
         setTitleMonths(getResources().getTextArray(arrayRes));
     }
 
+    /**
+     * Add a decorator to mark days of the calendar.
+     * Decorators added later take precedence over earlier ones.
+     *
+     * @param decorator the decorator to add
+     */
+    public void addDecorator(DayViewDecorator decorator) {
+        if(decorator == null) {
+            return;
+        }
+        adapter.addDecorator(decorator);
+    }
+
+    /**
+     * @param decorators decorators to add, in order of precedence
+     * @see #addDecorator(DayViewDecorator)
+     */
+    public void addDecorators(Collection<? extends DayViewDecorator> decorators) {
+        if(decorators == null) {
+            return;
+        }
+        adapter.addDecorators(decorators);
+    }
+
+    /**
+     * @param decorator a decorator to remove
+     */
+    public void removeDecorator(DayViewDecorator decorator) {
+        adapter.removeDecorator(decorator);
+    }
+
+    /**
+     * Remove all decorators
+     */
+    public void removeDecorators() {
+        adapter.removeDecorators();
+    }
+
+    /**
+     * Evaluate every decorator again. Decorations are cached per month,
+     * so call this when the days a decorator matches or its decoration changed.
+     */
+    public void invalidateDecorators() {
+        adapter.invalidateDecorators();
+    }
+
+    /**
+     * Evaluate decorators on a background executor instead of the main thread.
+     * The month shown and the next months in the paging direction are decorated ahead of time,
+     * and a month is shown without decorations until its decorations are ready.
+     * {@linkplain DayViewDecorator#shouldDecorate(CalendarDay)} must then be safe to call from the executor.
+     *
+     * @param executor the executor to evaluate decorators on, or null to evaluate them on the main thread
+     */
+    public void setDecoratorExecutor(Executor executor) {
+        adapter.setDecoratorExecutor(executor);
+        adapter.prefetchDecorations(pager.getCurrentItem(), 0);
+    }
+
+    /**
+     * Start a batch of configuration changes. Nothing is applied until
+     * {@linkplain Editor#commit()} is called, which updates the calendar in a single pass.
+     * This is cheaper than calling several setters in a row.
+     *
+     * <pre>
+     * widget.edit()
+     *         .setMinimumDate(min)
+     *         .setMaximumDate(max)
+     *         .setSelectionColor(color)
+     *         .setShowOtherDates(true)
+     *         .commit();
+     * </pre>
+     *
+     * @return a new editor for this calendar
+     */
+    public Editor edit() {
+        return new Editor();
+    }
+
     @Override
     protected Parcelable onSaveInstanceState() {
         SavedState ss = new SavedState(super.onSaveInstanceState());
@@ -588,7 +1099,11 @@ public class MaterialCalendarView extends FrameLayout {
         ss.showOtherDates = getShowOtherDates();
         ss.minDate = getMinimumDate();
         ss.maxDate = getMaximumDate();
-        ss.selectedDate = getSelectedDate();
+        ss.firstDayOfWeek = getFirstDayOfWeek();
+        ss.selectionMode = getSelectionMode();
+        ss.selectionFirstWord = adapter.selection.getFirstWord();
+        ss.selectionWords = adapter.selection.getWords();
+        ss.calendarMode = getCalendarMode();
         return ss;
     }
 
@@ -596,12 +1111,22 @@ public class MaterialCalendarView extends FrameLayout {
     protected void onRestoreInstanceState(Parcelable state) {
         SavedState ss = (SavedState) state;
         super.onRestoreInstanceState(ss.getSuperState());
-        setSelectionColor(ss.color);
-        setDateTextAppearance(ss.dateTextAppearance);
-        setWeekDayTextAppearance(ss.weekDayTextAppearance);
-        setShowOtherDates(ss.showOtherDates);
-        setRangeDates(ss.minDate, ss.maxDate);
-        setSelectedDate(ss.selectedDate);
+        setCalendarMode(ss.calendarMode);
+        edit()
+                .setSelectionColor(ss.color)
+                .setDateTextAppearance(ss.dateTextAppearance)
+                .setWeekDayTextAppearance(ss.weekDayTextAppearance)
+                .setShowOtherDates(ss.showOtherDates)
+                .setFirstDayOfWeek(ss.firstDayOfWeek)
+                .setMinimumDate(ss.minDate)
+                .setMaximumDate(ss.maxDate)
+                .setSelectionMode(ss.selectionMode)
+                .commit();
+        adapter.restoreSelection(ss.selectionFirstWord, ss.selectionWords);
+        CalendarDay selected = getSelectedDate();
+        if(selected != null) {
+            setCurrentDate(selected);
+        }
     }
 
     @Override
@@ -624,6 +1149,217 @@ public class MaterialCalendarView extends FrameLayout {
         pager.setCurrentItem(position, false);
     }
 
+    /**
+     * Records configuration changes for a {@linkplain MaterialCalendarView} and applies them
+     * all at once on {@linkplain #commit()}, with a single adapter update and a single rebind of each page.
+     *
+     * @see MaterialCalendarView#edit()
+     */
+    public class Editor {
+
+        private boolean rangeChanged = false;
+        private CalendarDay minDate = MaterialCalendarView.this.minDate;
+        private CalendarDay maxDate = MaterialCalendarView.this.maxDate;
+        private boolean selectionChanged = false;
+        private CalendarDay selectedDate = null;
+        private Integer selectionColor = null;
+        private Integer arrowColor = null;
+        private Integer headerTextAppearance = null;
+        private Integer dateTextAppearance = null;
+        private Integer weekDayTextAppearance = null;
+        private Boolean showOtherDates = null;
+        private Integer firstDayOfWeek = null;
+        private Integer selectionMode = null;
+        private boolean titleFormatterChanged = false;
+        private TitleFormatter titleFormatter = null;
+        private boolean weekDayFormatterChanged = false;
+        private WeekDayFormatter weekDayFormatter = null;
+
+        private Editor() {
+        }
+
+        /**
+         * @see MaterialCalendarView#setMinimumDate(CalendarDay)
+         */
+        public Editor setMinimumDate(CalendarDay day) {
+            minDate = day;
+            rangeChanged = true;
+            return this;
+        }
+
+        /**
+         * @see MaterialCalendarView#setMaximumDate(CalendarDay)
+         */
+        public Editor setMaximumDate(CalendarDay day) {
+            maxDate = day;
+            rangeChanged = true;
+            return this;
+        }
+
+        /**
+         * @see MaterialCalendarView#setSelectedDate(CalendarDay)
+         */
+        public Editor setSelectedDate(CalendarDay day) {
+            selectedDate = day;
+            selectionChanged = true;
+            return this;
+        }
+
+        /**
+         * @see MaterialCalendarView#setSelectionColor(int)
+         */
+        public Editor setSelectionColor(int color) {
+            selectionColor = color;
+            return this;
+        }
+
+        /**
+         * @see MaterialCalendarView#setArrowColor(int)
+         */
+        public Editor setArrowColor(int color) {
+            arrowColor = color;
+            return this;
+        }
+
+        /**
+         * @see MaterialCalendarView#setHeaderTextAppearance(int)
+         */
+        public Editor setHeaderTextAppearance(int resourceId) {
+            headerTextAppearance = resourceId;
+            return this;
+        }
+
+        /**
+         * @see MaterialCalendarView#setDateTextAppearance(int)
+         */
+        public Editor setDateTextAppearance(int resourceId) {
+            dateTextAppearance = resourceId;
+            return this;
+        }
+
+        /**
+         * @see MaterialCalendarView#setWeekDayTextAppearance(int)
+         */
+        public Editor setWeekDayTextAppearance(int resourceId) {
+            weekDayTextAppearance = resourceId;
+            return this;
+        }
+
+        /**
+         * @see MaterialCalendarView#setShowOtherDates(boolean)
+         */
+        public Editor setShowOtherDates(boolean show) {
+            showOtherDates = show;
+            return this;
+        }
+
+        /**
+         * @see MaterialCalendarView#setFirstDayOfWeek(int)
+         */
+        public Editor setFirstDayOfWeek(int dayOfWeek) {
+            if(dayOfWeek < Calendar.SUNDAY || dayOfWeek > Calendar.SATURDAY) {
+                throw new IllegalArgumentException("Invalid day of week: " + dayOfWeek);
+            }
+            firstDayOfWeek = dayOfWeek;
+            return this;
+        }
+
+        /**
+         * @see MaterialCalendarView#setSelectionMode(int)
+         */
+        public Editor setSelectionMode(int mode) {
+            if(mode != SELECTION_MODE_SINGLE && mode != SELECTION_MODE_MULTIPLE && mode != SELECTION_MODE_RANGE) {
+                throw new IllegalArgumentException("Unknown selection mode: " + mode);
+            }
+            selectionMode = mode;
+            return this;
+        }
+
+        /**
+         * @see MaterialCalendarView#setTitleFormatter(TitleFormatter)
+         */
+        public Editor setTitleFormatter(TitleFormatter formatter) {
+            titleFormatter = formatter;
+            titleFormatterChanged = true;
+            return this;
+        }
+
+        /**
+         * @see MaterialCalendarView#setWeekDayFormatter(WeekDayFormatter)
+         */
+        public Editor setWeekDayFormatter(WeekDayFormatter formatter) {
+            weekDayFormatter = formatter;
+            weekDayFormatterChanged = true;
+            return this;
+        }
+
+        /**
+         * Apply all recorded changes to the calendar
+         */
+        public void commit() {
+            CalendarDay c = currentMonth;
+            boolean weeksMoved = false;
+            adapter.beginBatch();
+            try {
+                if(selectionColor != null) {
+                    MaterialCalendarView.this.setSelectionColor(selectionColor);
+                }
+                if(arrowColor != null) {
+                    MaterialCalendarView.this.setArrowColor(arrowColor);
+                }
+                if(headerTextAppearance != null) {
+                    MaterialCalendarView.this.setHeaderTextAppearance(headerTextAppearance);
+                }
+                if(dateTextAppearance != null) {
+                    MaterialCalendarView.this.setDateTextAppearance(dateTextAppearance);
+                }
+                if(weekDayTextAppearance != null) {
+                    MaterialCalendarView.this.setWeekDayTextAppearance(weekDayTextAppearance);
+                }
+                if(showOtherDates != null) {
+                    MaterialCalendarView.this.setShowOtherDates(showOtherDates);
+                }
+                if(firstDayOfWeek != null) {
+                    weeksMoved = adapter.setFirstDayOfWeek(firstDayOfWeek);
+                }
+                if(selectionMode != null) {
+                    MaterialCalendarView.this.setSelectionMode(selectionMode);
+                }
+                if(weekDayFormatterChanged) {
+                    MaterialCalendarView.this.setWeekDayFormatter(weekDayFormatter);
+                }
+                if(titleFormatterChanged) {
+                    MaterialCalendarView.this.titleFormatter =
+                            titleFormatter == null ? DEFAULT_TITLE_FORMATTER : titleFormatter;
+                }
+                if(rangeChanged) {
+                    MaterialCalendarView.this.minDate = minDate;
+                    MaterialCalendarView.this.maxDate = maxDate;
+                    adapter.setRangeDates(minDate, maxDate);
+                }
+                if(selectionChanged) {
+                    adapter.setSelectedDate(selectedDate);
+                }
+            }
+            finally {
+                adapter.endBatch();
+            }
+
+            //The pager can only move once the adapter has notified its new contents
+            if(selectionChanged && selectedDate != null) {
+                setCurrentDate(selectedDate);
+                return;
+            }
+            if(weeksMoved) {
+                showPageOf(c);
+            } else if(rangeChanged) {
+                currentMonth = c;
+                pager.setCurrentItem(adapter.getIndexForDay(c), false);
+            }
+            updateUi();
+        }
+    }
+
     public static class SavedState extends BaseSavedState {
 
         int color = 0;
@@ -632,7 +1368,11 @@ public class MaterialCalendarView extends FrameLayout {
         boolean showOtherDates = false;
         CalendarDay minDate = null;
         CalendarDay maxDate = null;
-        CalendarDay selectedDate = null;
+        int firstDayOfWeek = Calendar.SUNDAY;
+        int selectionMode = SELECTION_MODE_SINGLE;
+        int selectionFirstWord = 0;
+        long[] selectionWords = null;
+        int calendarMode = MODE_MONTH;
 
         SavedState(Parcelable superState) {
             super(superState);
@@ -647,7 +1387,11 @@ public class MaterialCalendarView extends FrameLayout {
             out.writeInt(showOtherDates ? 1 : 0);
             out.writeParcelable(minDate, 0);
             out.writeParcelable(maxDate, 0);
-            out.writeParcelable(selectedDate, 0);
+            out.writeInt(firstDayOfWeek);
+            out.writeInt(selectionMode);
+            out.writeInt(selectionFirstWord);
+            out.writeLongArray(selectionWords);
+            out.writeInt(calendarMode);
         }
 
         public static final Parcelable.Creator<SavedState> CREATOR
@@ -670,7 +1414,11 @@ public class MaterialCalendarView extends FrameLayout {
             ClassLoader loader = CalendarDay.class.getClassLoader();
             minDate = in.readParcelable(loader);
             maxDate = in.readParcelable(loader);
-            selectedDate = in.readParcelable(loader);
+            firstDayOfWeek = in.readInt();
+            selectionMode = in.readInt();
+            selectionFirstWord = in.readInt();
+            selectionWords = in.createLongArray();
+            calendarMode = in.readInt();
         }
     }
 
@@ -691,32 +1439,72 @@ public class MaterialCalendarView extends FrameLayout {
 
         private static final int TAG_ITEM = R.id.mcv_pager;
 
+        /**
+         * The pager keeps 3 pages alive, so this is enough to cover a page change in either direction
+         */
+        private static final int MAX_RECYCLED_PAGES = 3;
+
+        /**
+         * Months decorated ahead of the current one in the paging direction
+         */
+        private static final int PREFETCH_MONTHS = 2;
+
+        private static final int DAYS_IN_WEEK = MonthView.DEFAULT_DAYS_IN_WEEK;
+
         private final MaterialCalendarView view;
         private final LayoutInflater inflater;
-        private final LinkedList<MonthView> currentViews;
-        private final ArrayList<CalendarDay> months;
-
-        private MonthView.Callbacks callbacks = null;
+        private final LinkedList<CalendarPage> currentViews;
+        private final ArrayDeque<CalendarPage> recycledViews;
+        private final MonthIndex months = new MonthIndex();
+        private final WeekIndex weeks = new WeekIndex();
+        private final DecorationIndex decorations = new DecorationIndex();
+        private final CalendarCounters counters = new CalendarCounters();
+
+        private CalendarPage.Callbacks callbacks = null;
+        private int renderer = RENDERER_VIEWS;
+        private int calendarMode = MODE_MONTH;
         private Integer color = null;
         private Integer dateTextAppearance = null;
         private Integer weekDayTextAppearance = null;
         private Boolean showOtherDates = null;
         private CalendarDay minDate = null;
         private CalendarDay maxDate = null;
-        private CalendarDay selectedDate = null;
+        private final SelectionStore selection = new SelectionStore();
+        private final DisabledDays disabledDays = new DisabledDays();
+        private final EnabledDaysIndex enabledDays = new EnabledDaysIndex();
+        private int selectionMode = SELECTION_MODE_SINGLE;
+        private int rangeAnchor = MonthView.NO_DAY;
         private WeekDayFormatter weekDayFormatter = WeekDayFormatter.DEFAULT;
+        private int firstDayOfWeek = Calendar.SUNDAY;
+
+        private int batchDepth = 0;
+        private boolean batchDataSetChanged = false;
+        private boolean batchPagesChanged = false;
 
         private MonthPagerAdapter(MaterialCalendarView view) {
             this.view = view;
             this.inflater = LayoutInflater.from(view.getContext());
             currentViews = new LinkedList<>();
-            months = new ArrayList<>();
+            recycledViews = new ArrayDeque<>(MAX_RECYCLED_PAGES);
+            decorations.setListener(new DecorationIndex.Listener() {
+                @Override
+                public void onMonthDecorated(int year, int month) {
+                    invalidatePageDecorations();
+                }
+            });
             setRangeDates(null, null);
         }
 
         @Override
         public int getCount() {
-            return months.size();
+            return calendarMode == MODE_WEEK ? weeks.getCount() : months.getCount();
+        }
+
+        /**
+         * @return the position of the month or week containing day, or -1 if it is out of range
+         */
+        private int indexOf(CalendarDay day) {
+            return calendarMode == MODE_WEEK ? weeks.indexOf(day) : months.indexOf(day);
         }
 
         public int getIndexForDay(CalendarDay day) {
@@ -729,39 +1517,52 @@ public class MaterialCalendarView extends FrameLayout {
             if(maxDate != null && day.isAfter(maxDate)) {
                 return getCount() - 1;
             }
-            for (int i = 0; i < months.size(); i++) {
-                CalendarDay month = months.get(i);
-                if (day.getYear() == month.getYear() && day.getMonth() == month.getMonth()) {
-                    return i;
-                }
-            }
-            return getCount() / 2;
+            int index = indexOf(day);
+            return index < 0 ? getCount() / 2 : index;
         }
 
         @Override
         public int getItemPosition(Object object) {
-            if(!(object instanceof MonthView)) {
+            if(!isRendererPage(object)) {
                 return POSITION_NONE;
             }
-            MonthView monthView = (MonthView) object;
+            View monthView = (View) object;
             CalendarDay month = (CalendarDay) monthView.getTag(TAG_ITEM);
             if(month == null) {
                 return POSITION_NONE;
             }
-            int index = months.indexOf(month);
-            if(index < 0) {
-                return POSITION_NONE;
-            }
-            return index;
+            int index = indexOf(month);
+            return index < 0 ? POSITION_NONE : index;
         }
 
         @Override
         public Object instantiateItem(ViewGroup container, int position) {
-            CalendarDay month = months.get(position);
-            MonthView monthView = new MonthView(container.getContext());
-            monthView.setTag(TAG_ITEM, month);
+            boolean traced = CalendarTrace.begin("MCV#instantiateItem");
+            try {
+                CalendarDay month = getItem(position);
+                CalendarPage monthView = obtainPage(container.getContext());
+                ((View) monthView).setTag(TAG_ITEM, month);
+                bindPage(monthView, month);
+                if(view.isPageLayerNeeded()) {
+                    //Pages added while scrolling are faded like the others
+                    ((View) monthView).setLayerType(View.LAYER_TYPE_HARDWARE, null);
+                }
+
+                container.addView((View) monthView);
+                currentViews.add(monthView);
+                return monthView;
+            } finally {
+                CalendarTrace.end(traced);
+            }
+        }
 
+        /**
+         * Apply every setting of this adapter to a page
+         */
+        private void bindPage(CalendarPage monthView, CalendarDay month) {
+            long start = System.nanoTime();
             monthView.setWeekDayFormatter(weekDayFormatter);
+            monthView.setDecorations(decorations);
             monthView.setCallbacks(callbacks);
             if(color != null) {
                 monthView.setSelectionColor(color);
@@ -775,24 +1576,97 @@ public class MaterialCalendarView extends FrameLayout {
             if(showOtherDates != null) {
                 monthView.setShowOtherDates(showOtherDates);
             }
+            monthView.setFirstDayOfWeek(firstDayOfWeek);
             monthView.setMinimumDate(minDate);
             monthView.setMaximumDate(maxDate);
-            monthView.setSelectedDate(selectedDate);
+            monthView.setSelection(selection);
+            monthView.setDisabledDays(disabledDays);
+            monthView.setEnabledDays(enabledDays);
 
             monthView.setDate(month);
+            counters.bindNanos += System.nanoTime() - start;
+        }
+
+        /**
+         * Start a batch of changes. Until the matching {@linkplain #endBatch()},
+         * settings are recorded but not pushed to pages and the data set change is not notified.
+         */
+        public void beginBatch() {
+            batchDepth++;
+        }
+
+        /**
+         * End a batch of changes, notifying the data set change and rebinding each live page once
+         */
+        public void endBatch() {
+            if(batchDepth == 0 || --batchDepth > 0) {
+                return;
+            }
+            if(batchDataSetChanged) {
+                batchDataSetChanged = false;
+                notifyDataSetChanged();
+            }
+            if(batchPagesChanged) {
+                batchPagesChanged = false;
+                for(CalendarPage monthView : currentViews) {
+                    bindPage(monthView, (CalendarDay) ((View) monthView).getTag(TAG_ITEM));
+                }
+            }
+        }
 
-            container.addView(monthView);
-            currentViews.add(monthView);
-            return monthView;
+        /**
+         * Notify that the pages or their positions changed, once the batch ends if one is in progress
+         */
+        private void onDataSetChanged() {
+            if(batchDepth > 0) {
+                batchDataSetChanged = true;
+            } else {
+                notifyDataSetChanged();
+            }
         }
 
+        /**
+         * @return true if a batch is in progress, in which case pages are rebound when it ends
+         */
+        private boolean deferPageUpdate() {
+            if(batchDepth > 0) {
+                batchPagesChanged = true;
+                return true;
+            }
+            return false;
+        }
 
+        private CalendarPage obtainPage(Context context) {
+            CalendarPage recycled = recycledViews.poll();
+            if(recycled != null) {
+                return recycled;
+            }
+            counters.pagesCreated++;
+            if(renderer == RENDERER_CANVAS) {
+                return new CanvasMonthView(context, counters, getPageWeeks());
+            }
+            return new MonthView(context, counters, getPageWeeks());
+        }
+
+        private boolean isRendererPage(Object object) {
+            boolean rendererPage = renderer == RENDERER_CANVAS
+                    ? object instanceof CanvasMonthView
+                    : object instanceof MonthView;
+            return rendererPage && ((CalendarPage) object).getWeekCount() == getPageWeeks();
+        }
 
         @Override
         public void destroyItem(ViewGroup container, int position, Object object) {
-            MonthView monthView = (MonthView) object;
+            CalendarPage monthView = (CalendarPage) object;
             currentViews.remove(monthView);
-            container.removeView(monthView);
+            container.removeView((View) monthView);
+            if(recycledViews.size() < MAX_RECYCLED_PAGES && isRendererPage(monthView)) {
+                //Pages removed while scrolling would otherwise keep their layer
+                resetPage((View) monthView);
+                recycledViews.push(monthView);
+            } else {
+                counters.pagesDestroyed++;
+            }
         }
 
         @Override
@@ -800,17 +1674,25 @@ public class MaterialCalendarView extends FrameLayout {
             return view == object;
         }
 
-        public void setCallbacks(MonthView.Callbacks callbacks) {
+        public void setCallbacks(CalendarPage.Callbacks callbacks) {
             this.callbacks = callbacks;
-            for(MonthView monthView : currentViews) {
+            for(CalendarPage monthView : currentViews) {
                 monthView.setCallbacks(callbacks);
             }
         }
 
         public void setSelectionColor(int color) {
             this.color = color;
-            for(MonthView monthView : currentViews) {
-                monthView.setSelectionColor(color);
+            if(deferPageUpdate()) {
+                return;
+            }
+            boolean traced = CalendarTrace.begin("MCV#setSelectionColor");
+            try {
+                for(CalendarPage monthView : currentViews) {
+                    monthView.setSelectionColor(color);
+                }
+            } finally {
+                CalendarTrace.end(traced);
             }
         }
 
@@ -819,21 +1701,35 @@ public class MaterialCalendarView extends FrameLayout {
                 return;
             }
             this.dateTextAppearance = taId;
-            for(MonthView monthView : currentViews) {
-                monthView.setDateTextAppearance(taId);
+            if(deferPageUpdate()) {
+                return;
+            }
+            boolean traced = CalendarTrace.begin("MCV#setDateTextAppearance");
+            try {
+                for(CalendarPage monthView : currentViews) {
+                    monthView.setDateTextAppearance(taId);
+                }
+            } finally {
+                CalendarTrace.end(traced);
             }
         }
 
         public void setShowOtherDates(boolean show) {
             this.showOtherDates = show;
-            for(MonthView monthView : currentViews) {
+            if(deferPageUpdate()) {
+                return;
+            }
+            for(CalendarPage monthView : currentViews) {
                 monthView.setShowOtherDates(show);
             }
         }
 
         public void setWeekDayFormatter(WeekDayFormatter formatter) {
             this.weekDayFormatter = formatter;
-            for(MonthView monthView : currentViews) {
+            if(deferPageUpdate()) {
+                return;
+            }
+            for(CalendarPage monthView : currentViews) {
                 monthView.setWeekDayFormatter(formatter);
             }
         }
@@ -842,60 +1738,436 @@ public class MaterialCalendarView extends FrameLayout {
             return showOtherDates;
         }
 
+        public void addDecorator(DayViewDecorator decorator) {
+            decorations.add(decorator);
+            invalidatePageDecorations();
+        }
+
+        public void addDecorators(Collection<? extends DayViewDecorator> decorators) {
+            decorations.addAll(decorators);
+            invalidatePageDecorations();
+        }
+
+        public void removeDecorator(DayViewDecorator decorator) {
+            decorations.remove(decorator);
+            invalidatePageDecorations();
+        }
+
+        public void removeDecorators() {
+            decorations.clear();
+            invalidatePageDecorations();
+        }
+
+        public void invalidateDecorators() {
+            decorations.invalidate();
+            invalidatePageDecorations();
+        }
+
+        public void setDecoratorExecutor(Executor executor) {
+            decorations.setExecutor(executor);
+            invalidatePageDecorations();
+        }
+
+        /**
+         * Decorate the months shown at position and the next months in the paging direction in the background,
+         * cancelling months that are no longer about to be shown.
+         * Decorations are kept by month, so weeks are prefetched by month as well.
+         *
+         * @param position  the position of the month or week shown
+         * @param direction positive when paging forward, negative when paging back, 0 to prefetch both ways
+         */
+        public void prefetchDecorations(int position, int direction) {
+            if(!decorations.isAsync() || decorations.isEmpty() || getCount() == 0) {
+                return;
+            }
+            //A week can show days of two months
+            int shownFirst = getMonthKey(position, false);
+            int shownLast = getMonthKey(position, true);
+            //The pager keeps both neighbours alive, and month pages show days of their surrounding months
+            int margin = calendarMode == MODE_WEEK ? PREFETCH_MONTHS : PREFETCH_MONTHS + 1;
+            int behind = direction > 0 ? 1 : margin;
+            int ahead = direction < 0 ? 1 : margin;
+            int first = Math.max(getMonthKey(0, false), shownFirst - behind);
+            int last = Math.min(getMonthKey(getCount() - 1, true), shownLast + ahead);
+            decorations.cancelOutside(first, last);
+
+            //Submit the months shown first, then the months ahead of them
+            for(int key = shownFirst; key <= shownLast; key++) {
+                prefetchMonth(key);
+            }
+            for(int i = 1; i <= Math.max(behind, ahead); i++) {
+                int next = direction < 0 ? shownFirst - i : shownLast + i;
+                int previous = direction < 0 ? shownLast + i : shownFirst - i;
+                if(next >= first && next <= last) {
+                    prefetchMonth(next);
+                }
+                if(previous >= first && previous <= last) {
+                    prefetchMonth(previous);
+                }
+            }
+        }
+
+        /**
+         * @param lastDay true for the month of the last day of the page, false for the month of its first day
+         * @return the month of the page at position, as year * 12 + month
+         */
+        private int getMonthKey(int position, boolean lastDay) {
+            CalendarDay day = getItem(position);
+            if(lastDay && calendarMode == MODE_WEEK) {
+                int epochDay = CalendarUtils.toEpochDay(day) + MonthView.DEFAULT_DAYS_IN_WEEK - 1;
+                return CalendarUtils.getYear(epochDay) * 12 + CalendarUtils.getMonth(epochDay);
+            }
+            return day.getYear() * 12 + day.getMonth();
+        }
+
+        private void prefetchMonth(int key) {
+            decorations.prefetch(key / 12, key % 12);
+        }
+
+        /**
+         * Pages only look up their decorations again on their next draw, so this is not deferred by batches.
+         * Recycled pages are included since rebinding them keeps the same index.
+         */
+        private void invalidatePageDecorations() {
+            for(CalendarPage monthView : currentViews) {
+                monthView.invalidateDecorations();
+            }
+            for(CalendarPage monthView : recycledViews) {
+                monthView.invalidateDecorations();
+            }
+        }
+
+        /**
+         * @return true if the pages moved, which happens to weeks, in which case the pager must show
+         * the current page again once the batch ends
+         */
+        public boolean setFirstDayOfWeek(int dayOfWeek) {
+            if(dayOfWeek == firstDayOfWeek) {
+                return false;
+            }
+            this.firstDayOfWeek = dayOfWeek;
+            weeks.setRange(minDate, maxDate, dayOfWeek);
+            boolean weekMode = calendarMode == MODE_WEEK;
+            if(weekMode) {
+                //Week pages now show the week containing their first day
+                for(CalendarPage monthView : currentViews) {
+                    View page = (View) monthView;
+                    int day = CalendarUtils.toEpochDay((CalendarDay) page.getTag(TAG_ITEM));
+                    page.setTag(TAG_ITEM, CalendarUtils.fromEpochDay(CalendarUtils.getFirstDayOfWeek(day, dayOfWeek)));
+                }
+            }
+            if(!deferPageUpdate()) {
+                boolean traced = CalendarTrace.begin("MCV#setFirstDayOfWeek");
+                try {
+                    for(CalendarPage monthView : currentViews) {
+                        monthView.setFirstDayOfWeek(dayOfWeek);
+                    }
+                } finally {
+                    CalendarTrace.end(traced);
+                }
+            }
+            if(weekMode) {
+                onDataSetChanged();
+            }
+            return weekMode;
+        }
+
+        public int getFirstDayOfWeek() {
+            return firstDayOfWeek;
+        }
+
+        public void setRenderer(int renderer) {
+            if(this.renderer == renderer) {
+                return;
+            }
+            this.renderer = renderer;
+            counters.pagesDestroyed += recycledViews.size();
+            recycledViews.clear();
+            notifyDataSetChanged();
+        }
+
+        public int getRenderer() {
+            return renderer;
+        }
+
+        public void setCalendarMode(int mode) {
+            if(calendarMode == mode) {
+                return;
+            }
+            calendarMode = mode;
+            counters.pagesDestroyed += recycledViews.size();
+            recycledViews.clear();
+            notifyDataSetChanged();
+        }
+
+        public int getCalendarMode() {
+            return calendarMode;
+        }
+
+        /**
+         * @return the number of weeks shown by each page
+         */
+        public int getPageWeeks() {
+            return calendarMode == MODE_WEEK ? 1 : MonthView.DEFAULT_MAX_WEEKS;
+        }
+
+        public CalendarCounters getCounters() {
+            return counters;
+        }
+
         public void setWeekDayTextAppearance(int taId) {
             if(taId == 0) {
                 return;
             }
             this.weekDayTextAppearance = taId;
-            for(MonthView monthView : currentViews) {
-                monthView.setWeekDayTextAppearance(taId);
+            if(deferPageUpdate()) {
+                return;
+            }
+            boolean traced = CalendarTrace.begin("MCV#setWeekDayTextAppearance");
+            try {
+                for(CalendarPage monthView : currentViews) {
+                    monthView.setWeekDayTextAppearance(taId);
+                }
+            } finally {
+                CalendarTrace.end(traced);
             }
         }
 
         public void setRangeDates(CalendarDay min, CalendarDay max) {
-            this.minDate = min;
-            this.maxDate = max;
-            for(MonthView monthView : currentViews) {
-                monthView.setMinimumDate(min);
-                monthView.setMaximumDate(max);
+            boolean traced = CalendarTrace.begin("MCV#setRangeDates");
+            try {
+                this.minDate = min;
+                this.maxDate = max;
+                if(!deferPageUpdate()) {
+                    for(CalendarPage monthView : currentViews) {
+                        monthView.setMinimumDate(min);
+                        monthView.setMaximumDate(max);
+                    }
+                }
+
+                months.setRange(min, max);
+                weeks.setRange(min, max, firstDayOfWeek);
+                counters.monthRebuilds++;
+
+                onDataSetChanged();
+                //A single selected day is moved into the new range
+                if(selectionMode == SELECTION_MODE_SINGLE) {
+                    CalendarDay prevDate = getSelectedDate();
+                    setSelectedDate(prevDate);
+                    CalendarDay selectedDate = getSelectedDate();
+                    if(prevDate != null && !prevDate.equals(selectedDate)) {
+                        view.dispatchOnDateChanged(selectedDate);
+                    }
+                }
+            } finally {
+                CalendarTrace.end(traced);
             }
+        }
 
-            if(min == null) {
-                Calendar worker = CalendarUtils.getInstance();
-                worker.add(Calendar.YEAR, -200);
-                min = new CalendarDay(worker);
+        /**
+         * Select only one day, moved within the minimum and maximum dates
+         *
+         * @param date the day to select, null to clear the selection
+         */
+        public void setSelectedDate(CalendarDay date) {
+            date = getValidSelectedDate(date);
+            int day = date == null ? MonthView.NO_DAY : CalendarUtils.toEpochDay(date);
+            if(day != MonthView.NO_DAY && selection.size() == 1 && selection.isSelected(day)) {
+                return;
+            }
+            clearSelection();
+            if(day != MonthView.NO_DAY) {
+                setDaysSelected(day, day, true);
             }
+        }
 
-            if(max == null) {
-                Calendar worker = CalendarUtils.getInstance();
-                worker.add(Calendar.YEAR, 200);
-                max = new CalendarDay(worker);
+        public void setDateSelected(CalendarDay date, boolean selected) {
+            int day = CalendarUtils.toEpochDay(date);
+            if(selected && selectionMode == SELECTION_MODE_SINGLE) {
+                setSelectedDate(date);
+            } else {
+                setDaysSelected(day, day, selected);
             }
+        }
 
-            Calendar worker = CalendarUtils.getInstance();
-            min.copyTo(worker);
-            months.clear();
-            CalendarDay workingMonth = new CalendarDay(worker);
-            while (!max.isBefore(workingMonth)) {
-                months.add(new CalendarDay(worker));
-                worker.add(Calendar.MONTH, 1);
-                workingMonth = new CalendarDay(worker);
+        public void selectRange(CalendarDay from, CalendarDay to) {
+            if(selectionMode == SELECTION_MODE_SINGLE) {
+                throw new IllegalStateException("Cannot select a range in single selection mode");
             }
-            CalendarDay prevDate = selectedDate;
-            notifyDataSetChanged();
-            setSelectedDate(prevDate);
-            if(prevDate != null) {
-                if(!prevDate.equals(selectedDate)) {
-                    callbacks.onDateChanged(selectedDate);
+            if(selectionMode == SELECTION_MODE_RANGE) {
+                clearSelection();
+            }
+            rangeAnchor = MonthView.NO_DAY;
+            setDaysSelected(CalendarUtils.toEpochDay(from), CalendarUtils.toEpochDay(to), true);
+        }
+
+        public void clearSelection() {
+            rangeAnchor = MonthView.NO_DAY;
+            int[] bounds = selection.getBounds();
+            if(bounds != null) {
+                selection.clear();
+                invalidateSelection(bounds[0], bounds[1]);
+            }
+        }
+
+        /**
+         * Apply a click on a day according to the selection mode
+         *
+         * @return true if the selection changed
+         */
+        public boolean onDateClicked(CalendarDay date) {
+            int day = CalendarUtils.toEpochDay(date);
+            switch(selectionMode) {
+                case SELECTION_MODE_MULTIPLE:
+                    setDaysSelected(day, day, !selection.isSelected(day));
+                    return true;
+                case SELECTION_MODE_RANGE:
+                    if(rangeAnchor == MonthView.NO_DAY) {
+                        clearSelection();
+                        setDaysSelected(day, day, true);
+                        rangeAnchor = day;
+                    } else {
+                        setDaysSelected(rangeAnchor, day, true);
+                        rangeAnchor = MonthView.NO_DAY;
+                    }
+                    return true;
+                default:
+                    if(selection.size() == 1 && selection.isSelected(day)) {
+                        return false;
+                    }
+                    setSelectedDate(date);
+                    return true;
+            }
+        }
+
+        public void setSelectionMode(int mode) {
+            if(mode == selectionMode) {
+                return;
+            }
+            selectionMode = mode;
+            rangeAnchor = MonthView.NO_DAY;
+            if(mode == SELECTION_MODE_SINGLE && selection.size() > 1) {
+                setSelectedDate(getSelectedDate());
+            }
+        }
+
+        public int getSelectionMode() {
+            return selectionMode;
+        }
+
+        public void restoreSelection(int firstWord, long[] words) {
+            clearSelection();
+            selection.setWords(firstWord, words);
+            int[] bounds = selection.getBounds();
+            if(bounds != null) {
+                invalidateSelection(bounds[0], bounds[1]);
+            }
+        }
+
+        private void setDaysSelected(int from, int to, boolean selected) {
+            selection.setRange(from, to, selected);
+            invalidateSelection(Math.min(from, to), Math.max(from, to));
+        }
+
+        /**
+         * Only pages showing a day between from and to look up their selection again.
+         * Recycled pages always do, since rebinding them keeps the same selection store.
+         */
+        private void invalidateSelection(int from, int to) {
+            for(CalendarPage monthView : currentViews) {
+                if(isShowing(monthView, from, to)) {
+                    monthView.invalidateSelection();
                 }
             }
+            for(CalendarPage monthView : recycledViews) {
+                monthView.invalidateSelection();
+            }
         }
 
-        public void setSelectedDate(CalendarDay date) {
-            this.selectedDate = getValidSelectedDate(date);
-            for(MonthView monthView : currentViews) {
-                monthView.setSelectedDate(selectedDate);
+        /**
+         * @return true if the page may show a day between from and to
+         */
+        private static boolean isShowing(CalendarPage monthView, int from, int to) {
+            CalendarDay day = (CalendarDay) ((View) monthView).getTag(TAG_ITEM);
+            int first = CalendarUtils.toEpochDay(day);
+            int last;
+            if(monthView.getWeekCount() == 1) {
+                last = first + DAYS_IN_WEEK - 1;
+            } else {
+                //A page shows at most a week of the previous month and two weeks of the next
+                first -= DAYS_IN_WEEK;
+                last = first + DAYS_IN_WEEK * (MonthView.DEFAULT_MAX_WEEKS + 1);
+            }
+            return from <= last && to >= first;
+        }
+
+        public void addDisabledDays(int[] from, int[] to, int count) {
+            if(count == 0) {
+                return;
+            }
+            int first = Integer.MAX_VALUE;
+            int last = Integer.MIN_VALUE;
+            for(int i = 0; i < count; i++) {
+                first = Math.min(first, Math.min(from[i], to[i]));
+                last = Math.max(last, Math.max(from[i], to[i]));
             }
+            disabledDays.addAll(from, to, count);
+            invalidateDisabledDays(first, last);
+        }
+
+        public void clearDisabledDays() {
+            if(disabledDays.isEmpty()) {
+                return;
+            }
+            int first = disabledDays.getStart(0);
+            int last = disabledDays.getEnd(disabledDays.size() - 1);
+            disabledDays.clear();
+            invalidateDisabledDays(first, last);
+        }
+
+        public void setDayEnabledPredicate(DayEnabledPredicate predicate) {
+            enabledDays.setPredicate(predicate);
+            invalidatePagePredicate();
+        }
+
+        public void invalidateDayEnabledPredicate() {
+            enabledDays.clear();
+            invalidatePagePredicate();
+        }
+
+        /**
+         * Pages share the enabled days, so rebinding a page does not notice them change
+         */
+        private void invalidatePagePredicate() {
+            for(CalendarPage monthView : currentViews) {
+                monthView.invalidateDayEnabledPredicate();
+            }
+            for(CalendarPage monthView : recycledViews) {
+                monthView.invalidateDayEnabledPredicate();
+            }
+        }
+
+        public boolean isDisabled(CalendarDay day) {
+            return disabledDays.contains(CalendarUtils.toEpochDay(day));
+        }
+
+        private void invalidateDisabledDays(int from, int to) {
+            for(CalendarPage monthView : currentViews) {
+                if(isShowing(monthView, from, to)) {
+                    monthView.invalidateDisabledDays();
+                }
+            }
+            for(CalendarPage monthView : recycledViews) {
+                monthView.invalidateDisabledDays();
+            }
+        }
+
+        public boolean isSelected(CalendarDay date) {
+            return selection.isSelected(CalendarUtils.toEpochDay(date));
+        }
+
+        public List<CalendarDay> getSelectedDates() {
+            return selection.getDays();
         }
 
         private CalendarDay getValidSelectedDate(CalendarDay date) {
@@ -912,11 +2184,12 @@ public class MaterialCalendarView extends FrameLayout {
         }
 
         public CalendarDay getItem(int position) {
-            return months.get(position);
+            return calendarMode == MODE_WEEK ? weeks.getWeek(position) : months.getMonth(position);
         }
 
         public CalendarDay getSelectedDate() {
-            return selectedDate;
+            int first = selection.getFirst();
+            return first == MonthView.NO_DAY ? null : CalendarUtils.fromEpochDay(first);
         }
 
         protected int getDateTextAppearance() {
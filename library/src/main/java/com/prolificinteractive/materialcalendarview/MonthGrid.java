@@ -0,0 +1,278 @@
+package com.prolificinteractive.materialcalendarview;
+
+import java.util.Calendar;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The layout of a month in a grid of 6 weeks: which day is in the first cell,
+ * where the month starts and ends, and the order of the days of the week.
+ * A grid can also hold a single week, in which case every day of the week belongs to the page
+ * and days are counted from the month of its first day.
+ * <p>
+ * Grids are immutable and computed with integer day math only. They are shared through
+ * a small cache by every calendar of the process, so paging back and forth,
+ * or several calendars showing the same months, reuse the same grids.
+ */
+final class MonthGrid {
+
+    static final int DAYS_IN_WEEK = 7;
+    static final int MAX_WEEKS = 6;
+    static final int CELLS = DAYS_IN_WEEK * MAX_WEEKS;
+
+    /**
+     * Enough for a few calendars each keeping a handful of months alive
+     */
+    private static final int MAX_CACHED_GRIDS = 48;
+
+    /**
+     * Passed instead of the first day of a week to build the grid of a whole month
+     */
+    private static final int MONTH_GRID = Integer.MIN_VALUE;
+
+    private static final LinkedHashMap<Long, MonthGrid> GRIDS =
+            new LinkedHashMap<Long, MonthGrid>(MAX_CACHED_GRIDS, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, MonthGrid> eldest) {
+                    return size() > MAX_CACHED_GRIDS;
+                }
+            };
+
+    private final int weeks;
+    private final int year;
+    private final int month;
+    private final int firstDayOfWeek;
+    private final boolean showOtherDates;
+    private final int firstDayOfMonth;
+    private final int daysInMonth;
+    private final int daysInPreviousMonth;
+    private final int firstCellDay;
+
+    /**
+     * @param firstCellEpochDay the first day of the week shown, or {@linkplain #MONTH_GRID} for a month grid
+     */
+    private MonthGrid(int year, int month, int firstDayOfWeek, boolean showOtherDates, int firstCellEpochDay) {
+        this.year = year;
+        this.month = month;
+        this.firstDayOfWeek = firstDayOfWeek;
+        this.showOtherDates = showOtherDates;
+        firstDayOfMonth = CalendarUtils.toEpochDay(year, month, 1);
+        daysInMonth = CalendarUtils.getDaysInMonth(year, month);
+        daysInPreviousMonth = CalendarUtils.getDay(firstDayOfMonth - 1);
+        if(firstCellEpochDay == MONTH_GRID) {
+            weeks = MAX_WEEKS;
+            firstCellDay = CalendarUtils.getFirstCellDay(
+                    firstDayOfWeek, CalendarUtils.getDayOfWeek(firstDayOfMonth), showOtherDates
+            );
+        } else {
+            weeks = 1;
+            firstCellDay = firstCellEpochDay - firstDayOfMonth + 1;
+        }
+    }
+
+    /**
+     * Get the grid of a month, from the shared cache when possible
+     *
+     * @param year           the year
+     * @param month          the month as defined by {@linkplain Calendar}
+     * @param firstDayOfWeek the day of the week of the first column, such as {@linkplain Calendar#SUNDAY}
+     * @param showOtherDates true if days of the surrounding months are shown
+     * @return the grid of the month
+     */
+    static MonthGrid get(int year, int month, int firstDayOfWeek, boolean showOtherDates) {
+        checkDayOfWeek(firstDayOfWeek);
+        //Months take the high bits, the first day of the week and showing other dates the low 4 bits,
+        //the fifth bit is only set for weeks
+        long key = ((long) (year * 12 + month) << 5) | ((firstDayOfWeek - 1) << 1) | (showOtherDates ? 1 : 0);
+        synchronized(GRIDS) {
+            MonthGrid grid = GRIDS.get(key);
+            if(grid == null) {
+                grid = new MonthGrid(year, month, firstDayOfWeek, showOtherDates, MONTH_GRID);
+                GRIDS.put(key, grid);
+            }
+            return grid;
+        }
+    }
+
+    /**
+     * Get the grid of the single week containing a day, from the shared cache when possible
+     *
+     * @param epochDay       any day of the week
+     * @param firstDayOfWeek the day of the week of the first column, such as {@linkplain Calendar#SUNDAY}
+     * @param showOtherDates true if days out of range are shown
+     * @return the grid of the week
+     */
+    static MonthGrid getWeek(int epochDay, int firstDayOfWeek, boolean showOtherDates) {
+        checkDayOfWeek(firstDayOfWeek);
+        int firstCellEpochDay = CalendarUtils.getFirstDayOfWeek(epochDay, firstDayOfWeek);
+        //Weeks are keyed by their first day
+        long key = ((long) firstCellEpochDay << 5) | (1 << 4) | ((firstDayOfWeek - 1) << 1) | (showOtherDates ? 1 : 0);
+        synchronized(GRIDS) {
+            MonthGrid grid = GRIDS.get(key);
+            if(grid == null) {
+                grid = new MonthGrid(
+                        CalendarUtils.getYear(firstCellEpochDay), CalendarUtils.getMonth(firstCellEpochDay),
+                        firstDayOfWeek, showOtherDates, firstCellEpochDay
+                );
+                GRIDS.put(key, grid);
+            }
+            return grid;
+        }
+    }
+
+    /**
+     * Get the grid of the month or of the week containing a day
+     *
+     * @param day            any day of the month or week to show
+     * @param weeks          either {@linkplain #MAX_WEEKS} for a month or 1 for a week
+     * @param firstDayOfWeek the day of the week of the first column, such as {@linkplain Calendar#SUNDAY}
+     * @param showOtherDates true if days of the surrounding months or out of range are shown
+     * @return the grid containing the day
+     */
+    static MonthGrid get(CalendarDay day, int weeks, int firstDayOfWeek, boolean showOtherDates) {
+        if(weeks == 1) {
+            return getWeek(CalendarUtils.toEpochDay(day), firstDayOfWeek, showOtherDates);
+        }
+        return get(day.getYear(), day.getMonth(), firstDayOfWeek, showOtherDates);
+    }
+
+    /**
+     * @return the grid of the same month, or of the week containing the first day of this week,
+     * with other settings
+     */
+    MonthGrid with(int firstDayOfWeek, boolean showOtherDates) {
+        if(weeks == 1) {
+            return getWeek(getFirstCellEpochDay(), firstDayOfWeek, showOtherDates);
+        }
+        return get(year, month, firstDayOfWeek, showOtherDates);
+    }
+
+    private static void checkDayOfWeek(int dayOfWeek) {
+        if(dayOfWeek < Calendar.SUNDAY || dayOfWeek > Calendar.SATURDAY) {
+            throw new IllegalArgumentException("Invalid day of week: " + dayOfWeek);
+        }
+    }
+
+    /**
+     * @return the number of weeks of the grid, {@linkplain #MAX_WEEKS} or 1
+     */
+    int getWeeks() {
+        return weeks;
+    }
+
+    /**
+     * @return the number of cells of the grid
+     */
+    int getCells() {
+        return weeks * DAYS_IN_WEEK;
+    }
+
+    int getYear() {
+        return year;
+    }
+
+    int getMonth() {
+        return month;
+    }
+
+    int getFirstDayOfWeek() {
+        return firstDayOfWeek;
+    }
+
+    boolean getShowOtherDates() {
+        return showOtherDates;
+    }
+
+    /**
+     * @return the epoch day of the first day of the month
+     */
+    int getFirstDayOfMonth() {
+        return firstDayOfMonth;
+    }
+
+    /**
+     * @return the epoch day of the last day of the month
+     */
+    int getLastDayOfMonth() {
+        return firstDayOfMonth + daysInMonth - 1;
+    }
+
+    /**
+     * @return the epoch day of the first day belonging to the page, which can be enabled:
+     * the first day of the month, or the first day of a single week
+     */
+    int getFirstDay() {
+        return weeks == 1 ? getFirstCellEpochDay() : firstDayOfMonth;
+    }
+
+    /**
+     * @return the epoch day of the last day belonging to the page
+     * @see #getFirstDay()
+     */
+    int getLastDay() {
+        return weeks == 1 ? getFirstCellEpochDay() + DAYS_IN_WEEK - 1 : getLastDayOfMonth();
+    }
+
+    /**
+     * @return true if days of the previous month are visible
+     */
+    boolean showsPreviousMonth() {
+        return showOtherDates && firstCellDay < 1;
+    }
+
+    /**
+     * @return true if days of the next month are visible, which a single week always shows when it crosses months
+     */
+    boolean showsNextMonth() {
+        return (showOtherDates || weeks == 1) && firstCellDay + getCells() - 1 > daysInMonth;
+    }
+
+    int getDaysInMonth() {
+        return daysInMonth;
+    }
+
+    int getDaysInPreviousMonth() {
+        return daysInPreviousMonth;
+    }
+
+    /**
+     * @return the day of the month shown in the first cell, zero or negative for days of the previous month
+     */
+    int getFirstCellDay() {
+        return firstCellDay;
+    }
+
+    /**
+     * @return the epoch day shown in the first cell
+     */
+    int getFirstCellEpochDay() {
+        return firstDayOfMonth + firstCellDay - 1;
+    }
+
+    /**
+     * @param column a column of the grid, from 0 to 6
+     * @return the day of the week shown in the column, as defined by {@linkplain Calendar#DAY_OF_WEEK}
+     */
+    int getDayOfWeek(int column) {
+        return (firstDayOfWeek - 1 + column) % DAYS_IN_WEEK + 1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(this == o) {
+            return true;
+        }
+        if(!(o instanceof MonthGrid)) {
+            return false;
+        }
+        MonthGrid grid = (MonthGrid) o;
+        return weeks == grid.weeks && year == grid.year && month == grid.month && firstCellDay == grid.firstCellDay
+                && firstDayOfWeek == grid.firstDayOfWeek && showOtherDates == grid.showOtherDates;
+    }
+
+    @Override
+    public int hashCode() {
+        int anchor = weeks == 1 ? getFirstCellEpochDay() : year * 12 + month;
+        return (anchor << 5) | (weeks == 1 ? 1 << 4 : 0) | ((firstDayOfWeek - 1) << 1) | (showOtherDates ? 1 : 0);
+    }
+}
@@ -0,0 +1,65 @@
+package com.prolificinteractive.materialcalendarview;
+
+/**
+ * Maps pager positions to months and back in constant time.
+ * Months are keyed as {@code year * 12 + month}, so a position is the offset
+ * of a month's key from the key of the first month in range.
+ */
+final class MonthIndex {
+
+    /**
+     * Years shown before and after today when no minimum or maximum date is set
+     */
+    static final int DEFAULT_RANGE_YEARS = 200;
+
+    private int firstMonth = 0;
+    private int count = 0;
+
+    /**
+     * @param min the earliest day, null for {@linkplain #DEFAULT_RANGE_YEARS} before today
+     * @param max the latest day, null for {@linkplain #DEFAULT_RANGE_YEARS} after today
+     */
+    void setRange(CalendarDay min, CalendarDay max) {
+        CalendarDay today = null;
+        if(min == null || max == null) {
+            today = CalendarDay.today();
+        }
+        firstMonth = min == null
+                ? getMonthKey(today) - DEFAULT_RANGE_YEARS * 12
+                : getMonthKey(min);
+        int lastMonth = max == null
+                ? getMonthKey(today) + DEFAULT_RANGE_YEARS * 12
+                : getMonthKey(max);
+        count = Math.max(0, lastMonth - firstMonth + 1);
+    }
+
+    /**
+     * @return the number of months in range
+     */
+    int getCount() {
+        return count;
+    }
+
+    /**
+     * @param position a position between 0 and {@linkplain #getCount()}
+     * @return the first day of the month at position
+     */
+    CalendarDay getMonth(int position) {
+        int month = firstMonth + position;
+        //Keys of months before year 0 are negative
+        return CalendarDay.from(CalendarUtils.floorDiv(month, 12), CalendarUtils.floorMod(month, 12), 1);
+    }
+
+    /**
+     * @param day any day
+     * @return the position of the month containing day, or -1 if it is out of range
+     */
+    int indexOf(CalendarDay day) {
+        int index = getMonthKey(day) - firstMonth;
+        return index < 0 || index >= count ? -1 : index;
+    }
+
+    private static int getMonthKey(CalendarDay day) {
+        return day.getYear() * 12 + day.getMonth();
+    }
+}
@@ -2,49 +2,99 @@ package com.prolificinteractive.materialcalendarview;
 
 import android.content.Context;
 import android.view.View;
+import android.view.ViewTreeObserver;
 import android.widget.LinearLayout;
 
 import com.prolificinteractive.materialcalendarview.format.WeekDayFormatter;
 
 import java.util.ArrayList;
-import java.util.Calendar;
-
-import static java.util.Calendar.DATE;
-import static java.util.Calendar.DAY_OF_WEEK;
+import static java.util.Calendar.DECEMBER;
+import static java.util.Calendar.JANUARY;
 import static java.util.Calendar.SUNDAY;
 
 /**
  * Display a month of {@linkplain DayView}s and
- * seven {@linkplain WeekDayView}s.
+ * seven {@linkplain WeekDayView}s, or a single week of days in week mode.
  */
-class MonthView extends LinearLayout implements View.OnClickListener {
+class MonthView extends LinearLayout
+        implements CalendarPage, View.OnClickListener, ViewTreeObserver.OnPreDrawListener {
 
     protected static final int DEFAULT_DAYS_IN_WEEK = 7;
     protected static final int DEFAULT_MAX_WEEKS = 6;
     protected static final int DEFAULT_MONTH_TILE_HEIGHT = DEFAULT_MAX_WEEKS + 1;
 
-    public interface Callbacks {
-
-        void onDateChanged(CalendarDay date);
-    }
+    /**
+     * Epoch day used when there is no day
+     */
+    static final int NO_DAY = Integer.MIN_VALUE;
+
+    /**
+     * The days shown in each cell changed
+     */
+    static final int DIRTY_MONTH = 1;
+    /**
+     * The minimum or maximum date or the disabled days changed
+     */
+    static final int DIRTY_RANGE = 1 << 1;
+    /**
+     * The selected date changed
+     */
+    static final int DIRTY_SELECTION = 1 << 2;
+    /**
+     * Whether days of other months are shown changed
+     */
+    static final int DIRTY_OTHER_DATES = 1 << 3;
+    /**
+     * The decorators changed
+     */
+    static final int DIRTY_DECORATIONS = 1 << 4;
+    /**
+     * The day enabled predicate changed
+     */
+    static final int DIRTY_PREDICATE = 1 << 5;
+    static final int DIRTY_ALL = DIRTY_MONTH | DIRTY_RANGE | DIRTY_SELECTION | DIRTY_OTHER_DATES
+            | DIRTY_DECORATIONS | DIRTY_PREDICATE;
 
     private Callbacks callbacks;
+    private final CalendarCounters counters;
 
     private final ArrayList<WeekDayView> weekDayViews = new ArrayList<>();
     private final ArrayList<DayView> monthDayViews = new ArrayList<>();
-
-    private final Calendar calendarOfRecord = CalendarUtils.getInstance();
-    private final Calendar tempWorkingCalendar = CalendarUtils.getInstance();
-    private int firstDayOfWeek = SUNDAY;
-
-    private CalendarDay selection = null;
-    private CalendarDay minDate = null;
-    private CalendarDay maxDate = null;
-
-    private boolean showOtherDates = false;
-
-    public MonthView(Context context) {
+    private final int weeks;
+
+    /**
+     * The month or week shown, with the first day of the week and whether other dates are shown
+     */
+    private MonthGrid grid;
+
+    private SelectionStore selection = null;
+    private int minDay = Integer.MIN_VALUE;
+    private int maxDay = Integer.MAX_VALUE;
+
+    private DecorationIndex decorations = null;
+    private DisabledDays disabledDays = null;
+    private EnabledDaysIndex enabledDays = null;
+    /**
+     * Cells allowed by the predicate, one bit per cell
+     */
+    private long enabledMask = -1L;
+
+    private int dirty = DIRTY_ALL;
+    private int boundFirstCellEpochDay = NO_DAY;
+
+    private int weekDayTextAppearance = 0;
+    private int dateTextAppearance = 0;
+    private int selectionColor = 0;
+    private WeekDayFormatter weekDayFormatter = WeekDayFormatter.DEFAULT;
+
+    /**
+     * @param counters where to count the work of this page, shared by every page of the calendar
+     * @param weeks    {@linkplain #DEFAULT_MAX_WEEKS} to show months, or 1 to show weeks
+     */
+    public MonthView(Context context, CalendarCounters counters, int weeks) {
         super(context);
+        this.counters = counters;
+        this.weeks = weeks;
 
         setOrientation(VERTICAL);
 
@@ -53,22 +103,22 @@ class MonthView extends LinearLayout implements View.OnClickListener {
 
         LinearLayout row = makeRow(this);
         for (int i = 0; i < DEFAULT_DAYS_IN_WEEK; i++) {
-            WeekDayView weekDayView = new WeekDayView(context);
+            WeekDayView weekDayView = new WeekDayView(context, counters);
             weekDayViews.add(weekDayView);
             row.addView(weekDayView, new LayoutParams(0, LayoutParams.MATCH_PARENT, 1f));
         }
-        for(int r = 0; r < DEFAULT_MAX_WEEKS; r++) {
+        for(int r = 0; r < weeks; r++) {
             row = makeRow(this);
             for(int i = 0; i < DEFAULT_DAYS_IN_WEEK; i++) {
-                DayView dayView = new DayView(context);
+                DayView dayView = new DayView(context, counters);
                 dayView.setOnClickListener(this);
                 monthDayViews.add(dayView);
                 row.addView(dayView, new LayoutParams(0, LayoutParams.MATCH_PARENT, 1f));
             }
         }
 
-        setFirstDayOfWeek(firstDayOfWeek);
-        setSelectedDate(new CalendarDay());
+        grid = MonthGrid.get(CalendarDay.today(), weeks, SUNDAY, false);
+        updateWeekDays();
     }
 
     private static LinearLayout makeRow(LinearLayout parent) {
@@ -78,97 +128,340 @@ class MonthView extends LinearLayout implements View.OnClickListener {
         return row;
     }
 
+    @Override
     public void setWeekDayTextAppearance(int taId) {
+        if(taId == weekDayTextAppearance) {
+            return;
+        }
+        weekDayTextAppearance = taId;
         for(WeekDayView weekDayView : weekDayViews) {
             weekDayView.setTextAppearance(getContext(), taId);
         }
     }
 
+    @Override
     public void setDateTextAppearance(int taId) {
+        if(taId == dateTextAppearance) {
+            return;
+        }
+        dateTextAppearance = taId;
         for(DayView dayView : monthDayViews) {
             dayView.setTextAppearance(getContext(), taId);
         }
     }
 
+    @Override
     public void setShowOtherDates(boolean show) {
-        this.showOtherDates = show;
-        updateUi();
+        if(show == grid.getShowOtherDates()) {
+            return;
+        }
+        grid = grid.with(grid.getFirstDayOfWeek(), show);
+        invalidateDays(DIRTY_OTHER_DATES);
     }
 
+    @Override
     public boolean getShowOtherDates() {
-        return showOtherDates;
+        return grid.getShowOtherDates();
     }
 
+    @Override
     public void setSelectionColor(int color) {
+        if(color == selectionColor) {
+            return;
+        }
+        selectionColor = color;
         for(DayView dayView : monthDayViews) {
             dayView.setSelectionColor(color);
         }
     }
 
-    private Calendar resetAndGetWorkingCalendar() {
-        CalendarUtils.copyDateTo(calendarOfRecord, tempWorkingCalendar);
-        int dow = CalendarUtils.getDayOfWeek(tempWorkingCalendar);
-        int delta = firstDayOfWeek - dow;
-        //If the delta is positive, we want to remove a week
-        boolean removeRow = showOtherDates ? delta >= 0 : delta > 0;
-        if(removeRow) {
-            delta -= DEFAULT_DAYS_IN_WEEK;
+    @Override
+    public void setFirstDayOfWeek(int dayOfWeek) {
+        if(dayOfWeek == grid.getFirstDayOfWeek()) {
+            return;
         }
-        tempWorkingCalendar.add(DATE, delta);
-        return tempWorkingCalendar;
+        grid = grid.with(dayOfWeek, grid.getShowOtherDates());
+        updateWeekDays();
+        invalidateDays(DIRTY_MONTH);
     }
 
-    public void setFirstDayOfWeek(int dayOfWeek) {
-        this.firstDayOfWeek = dayOfWeek;
-
-        Calendar calendar = resetAndGetWorkingCalendar();
-        calendar.set(DAY_OF_WEEK, dayOfWeek);
-        for(WeekDayView dayView : weekDayViews) {
-            dayView.setDayOfWeek(calendar);
-            calendar.add(DATE, 1);
+    private void updateWeekDays() {
+        for(int i = 0; i < DEFAULT_DAYS_IN_WEEK; i++) {
+            weekDayViews.get(i).setDayOfWeek(grid.getDayOfWeek(i));
         }
     }
 
+    @Override
     public void setWeekDayFormatter(WeekDayFormatter formatter) {
+        if(formatter == null) {
+            formatter = WeekDayFormatter.DEFAULT;
+        }
+        if(formatter == weekDayFormatter) {
+            return;
+        }
+        weekDayFormatter = formatter;
         for(WeekDayView dayView : weekDayViews) {
             dayView.setWeekDayFormatter(formatter);
         }
     }
 
+    @Override
     public void setMinimumDate(CalendarDay minDate) {
-        this.minDate = minDate;
-        updateUi();
+        int minDay = minDate == null ? Integer.MIN_VALUE : CalendarUtils.toEpochDay(minDate);
+        if(minDay != this.minDay) {
+            this.minDay = minDay;
+            invalidateDays(DIRTY_RANGE);
+        }
     }
 
+    @Override
     public void setMaximumDate(CalendarDay maxDate) {
-        this.maxDate = maxDate;
-        updateUi();
+        int maxDay = maxDate == null ? Integer.MAX_VALUE : CalendarUtils.toEpochDay(maxDate);
+        if(maxDay != this.maxDay) {
+            this.maxDay = maxDay;
+            invalidateDays(DIRTY_RANGE);
+        }
+    }
+
+    @Override
+    public void setDate(CalendarDay day) {
+        MonthGrid grid = MonthGrid.get(day, weeks, this.grid.getFirstDayOfWeek(), this.grid.getShowOtherDates());
+        if(grid.equals(this.grid)) {
+            return;
+        }
+        this.grid = grid;
+        invalidateDays(DIRTY_MONTH);
+    }
+
+    @Override
+    public int getWeekCount() {
+        return weeks;
+    }
+
+    @Override
+    public void setSelection(SelectionStore selection) {
+        if(selection != this.selection) {
+            this.selection = selection;
+            invalidateDays(DIRTY_SELECTION);
+        }
     }
 
-    public void setDate(CalendarDay month) {
-        month.copyTo(calendarOfRecord);
-        CalendarUtils.setToFirstDay(calendarOfRecord);
+    @Override
+    public void invalidateSelection() {
+        invalidateDays(DIRTY_SELECTION);
+    }
+
+    @Override
+    public void setDisabledDays(DisabledDays disabledDays) {
+        if(disabledDays != this.disabledDays) {
+            this.disabledDays = disabledDays;
+            invalidateDays(DIRTY_RANGE);
+        }
+    }
+
+    @Override
+    public void invalidateDisabledDays() {
+        invalidateDays(DIRTY_RANGE);
+    }
+
+    @Override
+    public void setEnabledDays(EnabledDaysIndex enabledDays) {
+        if(enabledDays != this.enabledDays) {
+            this.enabledDays = enabledDays;
+            invalidateDays(DIRTY_PREDICATE);
+        }
+    }
+
+    @Override
+    public void invalidateDayEnabledPredicate() {
+        invalidateDays(DIRTY_PREDICATE);
+    }
+
+    @Override
+    public void setDecorations(DecorationIndex decorations) {
+        if(decorations != this.decorations) {
+            this.decorations = decorations;
+            invalidateDays(DIRTY_DECORATIONS);
+        }
+    }
+
+    @Override
+    public void invalidateDecorations() {
+        invalidateDays(DIRTY_DECORATIONS);
+    }
+
+    /**
+     * Mark aspects of the days as changed. They are resolved together
+     * right before the next layout or draw, so consecutive setters only rebind once.
+     *
+     * @param flags a combination of the DIRTY_* flags
+     */
+    private void invalidateDays(int flags) {
+        if(dirty == 0) {
+            invalidate();
+        }
+        dirty |= flags;
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        getViewTreeObserver().addOnPreDrawListener(this);
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        getViewTreeObserver().removeOnPreDrawListener(this);
+        super.onDetachedFromWindow();
+    }
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
         updateUi();
+        super.onMeasure(widthMeasureSpec, heightMeasureSpec);
     }
 
-    public void setSelectedDate(CalendarDay cal) {
-        selection = cal;
+    @Override
+    public boolean onPreDraw() {
+        if(dirty == 0) {
+            return true;
+        }
         updateUi();
+        //Labels changing width need another layout pass before drawing
+        return !isLayoutRequested();
     }
 
+    /**
+     * Resolve the dirty aspects of every cell using only integer day math, no objects are allocated.
+     * Each cell only updates the aspects that changed.
+     */
     private void updateUi() {
-        int ourMonth = CalendarUtils.getMonth(calendarOfRecord);
-        Calendar calendar = resetAndGetWorkingCalendar();
-        for(DayView dayView : monthDayViews) {
-            CalendarDay day = new CalendarDay(calendar);
-            dayView.setDay(day);
-            dayView.setupSelection(showOtherDates, day.isInRange(minDate, maxDate), day.getMonth() == ourMonth);
-            dayView.setChecked(day.equals(selection));
-            calendar.add(DATE, 1);
+        int dirty = this.dirty;
+        if(dirty == 0) {
+            return;
         }
-        postInvalidate();
+        this.dirty = 0;
+        counters.pageUpdates++;
+        long start = System.nanoTime();
+        boolean traced = CalendarTrace.begin("MonthView#updateUi");
+        try {
+            updateDays(dirty);
+        } finally {
+            CalendarTrace.end(traced);
+        }
+        counters.bindNanos += System.nanoTime() - start;
+    }
+
+    /**
+     * @param dirty the aspects of the days to resolve, a combination of the DIRTY_* flags
+     */
+    private void updateDays(int dirty) {
+        MonthGrid grid = this.grid;
+        int year = grid.getYear();
+        int month = grid.getMonth();
+        boolean showOtherDates = grid.getShowOtherDates();
+        int day = grid.getFirstCellDay();
+        int epochDay = grid.getFirstCellEpochDay();
+        if(epochDay != boundFirstCellEpochDay) {
+            //Showing other dates or the first day of the week moved the days in the grid
+            boundFirstCellEpochDay = epochDay;
+            dirty |= DIRTY_MONTH;
+        }
+        boolean updateDays = (dirty & DIRTY_MONTH) != 0;
+        boolean updateEnabled = (dirty & (DIRTY_MONTH | DIRTY_RANGE | DIRTY_OTHER_DATES | DIRTY_PREDICATE)) != 0;
+        boolean updateChecked = (dirty & (DIRTY_MONTH | DIRTY_SELECTION)) != 0;
+        boolean updateDecorations = (dirty & (DIRTY_MONTH | DIRTY_OTHER_DATES | DIRTY_DECORATIONS)) != 0;
+
+        //Decorations of the surrounding months are only needed when their days are shown
+        DayViewFacade[] monthDecorations = null;
+        DayViewFacade[] previousDecorations = null;
+        DayViewFacade[] nextDecorations = null;
+        if(updateDecorations && decorations != null) {
+            monthDecorations = decorations.getMonth(year, month);
+            if(grid.showsPreviousMonth()) {
+                previousDecorations = month == JANUARY
+                        ? decorations.getMonth(year - 1, DECEMBER)
+                        : decorations.getMonth(year, month - 1);
+            }
+            if(grid.showsNextMonth()) {
+                nextDecorations = month == DECEMBER
+                        ? decorations.getMonth(year + 1, JANUARY)
+                        : decorations.getMonth(year, month + 1);
+            }
+        }
+
+        //The days of the month, or every day of a single week
+        int firstDay = grid.getFirstDay();
+        int lastDay = grid.getLastDay();
+        //One binary search for the first cell, then the disabled intervals are walked along with the days
+        if((dirty & (DIRTY_MONTH | DIRTY_PREDICATE)) != 0) {
+            enabledMask = enabledDays == null ? -1L : enabledDays.getMask(epochDay, firstDay, lastDay);
+        }
+        int disabledCount = disabledDays == null || !updateEnabled ? 0 : disabledDays.size();
+        int disabledIndex = disabledCount == 0 ? 0 : disabledDays.indexOf(epochDay);
+        for(int i = 0; i < monthDayViews.size(); i++, day++, epochDay++) {
+            DayView dayView = monthDayViews.get(i);
+            if(updateDays) {
+                bindDay(dayView, day);
+            }
+            if(updateEnabled) {
+                while(disabledIndex < disabledCount && disabledDays.getEnd(disabledIndex) < epochDay) {
+                    disabledIndex++;
+                }
+                boolean disabled = (disabledIndex < disabledCount && disabledDays.getStart(disabledIndex) <= epochDay)
+                        || (enabledMask & (1L << i)) == 0;
+                boolean inPage = epochDay >= firstDay && epochDay <= lastDay;
+                boolean inRange = epochDay >= minDay && epochDay <= maxDay;
+                dayView.setupSelection(showOtherDates, inRange, inPage, disabled);
+            }
+            if(updateChecked) {
+                dayView.setChecked(selection != null && selection.isSelected(epochDay));
+            }
+            if(updateDecorations) {
+                dayView.setDecoration(getDecoration(day, monthDecorations, previousDecorations, nextDecorations));
+            }
+        }
+    }
+
+    /**
+     * @param day the day relative to this month, as in {@linkplain #bindDay(DayView, int)}
+     * @return the decoration of the day, null if it has none or its month's decorations are not given
+     */
+    private DayViewFacade getDecoration(int day, DayViewFacade[] month, DayViewFacade[] previous, DayViewFacade[] next) {
+        if(day < 1) {
+            return previous == null ? null : previous[grid.getDaysInPreviousMonth() + day];
+        } else if(day > grid.getDaysInMonth()) {
+            return next == null ? null : next[day - grid.getDaysInMonth()];
+        }
+        return month == null ? null : month[day];
     }
 
+    /**
+     * @param day the day relative to this month, zero or negative for the previous month
+     *            and over {@linkplain MonthGrid#getDaysInMonth()} for the next month
+     */
+    private void bindDay(DayView dayView, int day) {
+        int cellYear = grid.getYear();
+        int cellMonth = grid.getMonth();
+        int cellDay = day;
+        if(day < 1) {
+            cellDay = grid.getDaysInPreviousMonth() + day;
+            cellMonth--;
+        } else if(day > grid.getDaysInMonth()) {
+            cellDay = day - grid.getDaysInMonth();
+            cellMonth++;
+        }
+        if(cellMonth < JANUARY) {
+            cellMonth = DECEMBER;
+            cellYear--;
+        } else if(cellMonth > DECEMBER) {
+            cellMonth = JANUARY;
+            cellYear++;
+        }
+        dayView.setDay(cellYear, cellMonth, cellDay);
+    }
+
+    @Override
     public void setCallbacks(Callbacks callbacks) {
         this.callbacks = callbacks;
     }
@@ -176,20 +469,9 @@ class MonthView extends LinearLayout implements View.OnClickListener {
     @Override
     public void onClick(View v) {
         if(v instanceof DayView) {
-            for(DayView other : monthDayViews) {
-                other.setChecked(false);
-            }
-            DayView dayView = (DayView) v;
-            dayView.setChecked(true);
-
-            CalendarDay date = dayView.getDate();
-            if(date.equals(selection)) {
-                return;
-            }
-            selection = date;
-
+            //The selection store is updated by the callbacks, which invalidate this page
             if(callbacks != null) {
-                callbacks.onDateChanged(dayView.getDate());
+                callbacks.onDateClicked(((DayView) v).getDate());
             }
         }
     }
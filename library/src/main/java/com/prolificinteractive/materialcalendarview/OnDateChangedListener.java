@@ -6,7 +6,9 @@ package com.prolificinteractive.materialcalendarview;
 public interface OnDateChangedListener {
 
     /**
-     * Called upon change of the selected day
+     * Called upon change of the selected day.
+     * With multiple or range selection, this is called with the day the user clicked,
+     * use {@linkplain MaterialCalendarView#isDateSelected(CalendarDay)} to know if it is now selected.
      *
      * @param widget the view associated with this listener
      * @param date   the date picked
@@ -0,0 +1,183 @@
+package com.prolificinteractive.materialcalendarview;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The selected days of a calendar, stored as a bitset indexed by epoch day.
+ * The bitset grows in both directions as needed, so looking up a day is constant time
+ * and a year of selected days takes under 50 bytes.
+ */
+final class SelectionStore {
+
+    private static final int WORD_SHIFT = 6;
+    private static final int WORD_MASK = (1 << WORD_SHIFT) - 1;
+    private static final long[] NO_WORDS = new long[0];
+
+    /**
+     * Bits of epoch days from {@code firstWord * 64}
+     */
+    private long[] words = NO_WORDS;
+    private int firstWord = 0;
+    private int count = 0;
+
+    /**
+     * @return true if the day is selected
+     */
+    boolean isSelected(int epochDay) {
+        int word = (epochDay >> WORD_SHIFT) - firstWord;
+        return word >= 0 && word < words.length && (words[word] & (1L << (epochDay & WORD_MASK))) != 0;
+    }
+
+    /**
+     * @return the number of selected days
+     */
+    int size() {
+        return count;
+    }
+
+    boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * @return the earliest selected day, or {@linkplain MonthView#NO_DAY} if there is no selection
+     */
+    int getFirst() {
+        if(count == 0) {
+            return MonthView.NO_DAY;
+        }
+        for(int i = 0; i < words.length; i++) {
+            if(words[i] != 0) {
+                return ((firstWord + i) << WORD_SHIFT) + Long.numberOfTrailingZeros(words[i]);
+            }
+        }
+        return MonthView.NO_DAY;
+    }
+
+    /**
+     * @return the selected days, in order
+     */
+    List<CalendarDay> getDays() {
+        ArrayList<CalendarDay> days = new ArrayList<>(count);
+        for(int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while(word != 0) {
+                int bit = Long.numberOfTrailingZeros(word);
+                days.add(CalendarUtils.fromEpochDay(((firstWord + i) << WORD_SHIFT) + bit));
+                word &= word - 1;
+            }
+        }
+        return days;
+    }
+
+    /**
+     * Select or deselect every day from {@code from} to {@code to}, inclusive
+     */
+    void setRange(int from, int to, boolean selected) {
+        if(from > to) {
+            int swap = from;
+            from = to;
+            to = swap;
+        }
+        int fromWord = from >> WORD_SHIFT;
+        int toWord = to >> WORD_SHIFT;
+        if(selected) {
+            ensureWords(fromWord, toWord);
+        } else {
+            //Nothing to clear outside of the words in use
+            if(words.length == 0 || toWord < firstWord || fromWord >= firstWord + words.length) {
+                return;
+            }
+            if(fromWord < firstWord) {
+                fromWord = firstWord;
+                from = fromWord << WORD_SHIFT;
+            }
+            if(toWord >= firstWord + words.length) {
+                toWord = firstWord + words.length - 1;
+                to = (toWord << WORD_SHIFT) + WORD_MASK;
+            }
+        }
+        for(int word = fromWord; word <= toWord; word++) {
+            long mask = -1L;
+            if(word == fromWord) {
+                mask &= -1L << (from & WORD_MASK);
+            }
+            if(word == toWord) {
+                mask &= -1L >>> (WORD_MASK - (to & WORD_MASK));
+            }
+            int index = word - firstWord;
+            long old = words[index];
+            long updated = selected ? old | mask : old & ~mask;
+            count += Long.bitCount(updated) - Long.bitCount(old);
+            words[index] = updated;
+        }
+    }
+
+    void set(int epochDay, boolean selected) {
+        setRange(epochDay, epochDay, selected);
+    }
+
+    void clear() {
+        words = NO_WORDS;
+        firstWord = 0;
+        count = 0;
+    }
+
+    /**
+     * @return the earliest and latest selected days, or null if there is no selection
+     */
+    int[] getBounds() {
+        if(count == 0) {
+            return null;
+        }
+        int last = words.length - 1;
+        while(words[last] == 0) {
+            last--;
+        }
+        int lastDay = ((firstWord + last) << WORD_SHIFT) + WORD_MASK - Long.numberOfLeadingZeros(words[last]);
+        return new int[] { getFirst(), lastDay };
+    }
+
+    private void ensureWords(int fromWord, int toWord) {
+        if(words.length == 0) {
+            firstWord = fromWord;
+            words = new long[toWord - fromWord + 1];
+            return;
+        }
+        int lastWord = firstWord + words.length - 1;
+        if(fromWord >= firstWord && toWord <= lastWord) {
+            return;
+        }
+        int newFirst = Math.min(fromWord, firstWord);
+        int newLast = Math.max(toWord, lastWord);
+        long[] grown = new long[newLast - newFirst + 1];
+        System.arraycopy(words, 0, grown, firstWord - newFirst, words.length);
+        words = grown;
+        firstWord = newFirst;
+    }
+
+    /**
+     * @return the words of the bitset, for saving state
+     */
+    long[] getWords() {
+        return Arrays.copyOf(words, words.length);
+    }
+
+    int getFirstWord() {
+        return firstWord;
+    }
+
+    /**
+     * Restore a selection saved with {@linkplain #getWords()} and {@linkplain #getFirstWord()}
+     */
+    void setWords(int firstWord, long[] words) {
+        this.firstWord = firstWord;
+        this.words = words == null ? NO_WORDS : Arrays.copyOf(words, words.length);
+        count = 0;
+        for(long word : this.words) {
+            count += Long.bitCount(word);
+        }
+    }
+}
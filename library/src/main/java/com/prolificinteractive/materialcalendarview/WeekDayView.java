@@ -16,9 +16,15 @@ class WeekDayView extends TextView {
 
     private WeekDayFormatter formatter = WeekDayFormatter.DEFAULT;
     private int dayOfWeek;
+    private CharSequence label = null;
+    private final CalendarCounters counters;
 
-    public WeekDayView(Context context) {
+    /**
+     * @param counters where to count the labels formatted by this view
+     */
+    public WeekDayView(Context context, CalendarCounters counters) {
         super(context);
+        this.counters = counters;
 
         setGravity(Gravity.CENTER);
 
@@ -30,13 +36,22 @@ class WeekDayView extends TextView {
     }
 
     public void setWeekDayFormatter(WeekDayFormatter formatter) {
-        this.formatter = formatter == null ? WeekDayFormatter.DEFAULT : formatter;
+        formatter = formatter == null ? WeekDayFormatter.DEFAULT : formatter;
+        if(formatter == this.formatter) {
+            return;
+        }
+        this.formatter = formatter;
         setDayOfWeek(dayOfWeek);
     }
 
     public void setDayOfWeek(int dayOfWeek) {
         this.dayOfWeek = dayOfWeek;
-        setText(formatter.format(dayOfWeek));
+        CharSequence label = counters.formatWeekDay(formatter, dayOfWeek);
+        //Labels from the default formatter are shared, so an unchanged label is usually the same instance
+        if(label != this.label && (label == null || !label.equals(this.label))) {
+            this.label = label;
+            setText(label);
+        }
     }
     
     public void setDayOfWeek(Calendar calendar) {
@@ -0,0 +1,73 @@
+package com.prolificinteractive.materialcalendarview;
+
+import java.util.Calendar;
+
+/**
+ * Maps pager positions to weeks and back in constant time.
+ * Weeks are keyed by the epoch day of their first day, so a position is the number
+ * of weeks between a week and the first week in range.
+ *
+ * @see MonthIndex
+ */
+final class WeekIndex {
+
+    private static final int DAYS_IN_WEEK = 7;
+
+    private int firstDayOfWeek = Calendar.SUNDAY;
+    private int firstWeek = 0;
+    private int count = 0;
+
+    /**
+     * @param min            the earliest day, null for {@linkplain MonthIndex#DEFAULT_RANGE_YEARS} before today
+     * @param max            the latest day, null for {@linkplain MonthIndex#DEFAULT_RANGE_YEARS} after today
+     * @param firstDayOfWeek the day of the week weeks start on, such as {@linkplain Calendar#SUNDAY}
+     */
+    void setRange(CalendarDay min, CalendarDay max, int firstDayOfWeek) {
+        CalendarDay today = null;
+        if(min == null || max == null) {
+            today = CalendarDay.today();
+        }
+        this.firstDayOfWeek = firstDayOfWeek;
+        int first = min == null
+                ? CalendarUtils.toEpochDay(today.getYear() - MonthIndex.DEFAULT_RANGE_YEARS, today.getMonth(), 1)
+                : CalendarUtils.toEpochDay(min);
+        int last = max == null
+                ? CalendarUtils.toEpochDay(today.getYear() + MonthIndex.DEFAULT_RANGE_YEARS, today.getMonth(), 1)
+                : CalendarUtils.toEpochDay(max);
+        firstWeek = CalendarUtils.getFirstDayOfWeek(first, firstDayOfWeek);
+        int lastWeek = CalendarUtils.getFirstDayOfWeek(last, firstDayOfWeek);
+        count = Math.max(0, (lastWeek - firstWeek) / DAYS_IN_WEEK + 1);
+    }
+
+    /**
+     * @return the number of weeks in range
+     */
+    int getCount() {
+        return count;
+    }
+
+    /**
+     * @return the day of the week weeks start on
+     */
+    int getFirstDayOfWeek() {
+        return firstDayOfWeek;
+    }
+
+    /**
+     * @param position a position between 0 and {@linkplain #getCount()}
+     * @return the first day of the week at position
+     */
+    CalendarDay getWeek(int position) {
+        return CalendarUtils.fromEpochDay(firstWeek + position * DAYS_IN_WEEK);
+    }
+
+    /**
+     * @param day any day
+     * @return the position of the week containing day, or -1 if it is out of range
+     */
+    int indexOf(CalendarDay day) {
+        int week = CalendarUtils.getFirstDayOfWeek(CalendarUtils.toEpochDay(day), firstDayOfWeek);
+        int index = (week - firstWeek) / DAYS_IN_WEEK;
+        return week < firstWeek || index >= count ? -1 : index;
+    }
+}
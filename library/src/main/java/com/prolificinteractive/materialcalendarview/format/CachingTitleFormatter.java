@@ -0,0 +1,83 @@
+package com.prolificinteractive.materialcalendarview.format;
+
+import com.prolificinteractive.materialcalendarview.CalendarDay;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Remember the titles of recently shown months, so paging back and forth
+ * does not format them again. Titles are forgotten when the default locale changes.
+ * Only used from the main thread.
+ */
+public class CachingTitleFormatter implements TitleFormatter {
+
+    /**
+     * Enough months to cover a fast fling in both directions
+     */
+    public static final int DEFAULT_MAX_TITLES = 24;
+
+    private final TitleFormatter formatter;
+    private final LinkedHashMap<Integer, CharSequence> titles;
+    private Locale locale = Locale.getDefault();
+    private int missCount = 0;
+
+    /**
+     * @param formatter the formatter to cache titles from
+     */
+    public CachingTitleFormatter(TitleFormatter formatter) {
+        this(formatter, DEFAULT_MAX_TITLES);
+    }
+
+    /**
+     * @param formatter the formatter to cache titles from
+     * @param maxTitles the number of titles to remember
+     */
+    public CachingTitleFormatter(TitleFormatter formatter, final int maxTitles) {
+        if(formatter == null) {
+            throw new IllegalArgumentException("Formatter cannot be null");
+        }
+        if(maxTitles < 1) {
+            throw new IllegalArgumentException("Must cache at least one title");
+        }
+        this.formatter = formatter;
+        this.titles = new LinkedHashMap<Integer, CharSequence>(maxTitles, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, CharSequence> eldest) {
+                return size() > maxTitles;
+            }
+        };
+    }
+
+    @Override
+    public CharSequence format(CalendarDay day) {
+        Locale locale = Locale.getDefault();
+        if(!locale.equals(this.locale)) {
+            this.locale = locale;
+            titles.clear();
+        }
+        Integer key = day.getPackedMonthKey();
+        CharSequence title = titles.get(key);
+        if(title == null) {
+            missCount++;
+            title = formatter.format(day);
+            titles.put(key, title);
+        }
+        return title;
+    }
+
+    /**
+     * @return the number of titles that were not cached, and were formatted by the wrapped formatter
+     */
+    public int getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Forget every title, for when the wrapped formatter changed
+     */
+    public void invalidate() {
+        titles.clear();
+    }
+}
@@ -1,33 +1,119 @@
 package com.prolificinteractive.materialcalendarview.format;
 
-import com.prolificinteractive.materialcalendarview.CalendarUtils;
-
 import java.util.Calendar;
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Use a {@linkplain java.util.Calendar} to get week day labels.
+ * <p>
+ * The 7 labels of each locale and style are computed once and shared by every formatter,
+ * so formatting is a lookup that is safe to call from any thread.
  *
  * @see java.util.Calendar#getDisplayName(int, int, java.util.Locale)
  */
 public class CalendarWeekDayFormatter implements WeekDayFormatter {
 
-    private final Calendar calendar;
+    private static final int DAYS_IN_WEEK = 7;
+
+    /**
+     * Immutable label tables, keyed by {@linkplain Labels#getKey(Locale, int)}
+     */
+    private static final ConcurrentHashMap<String, Labels> LABELS = new ConcurrentHashMap<>();
+
+    private final Locale locale;
+    private final int style;
+
+    /**
+     * The labels used last, to skip the table lookup while the locale does not change
+     */
+    private volatile Labels current = null;
+    private final AtomicInteger missCount = new AtomicInteger();
 
     /**
-     * @param calendar Calendar to retrieve formatting information from
+     * @param calendar no longer used, labels only depend on the locale
+     * @deprecated use {@linkplain #CalendarWeekDayFormatter()}
      */
+    @Deprecated
     public CalendarWeekDayFormatter(Calendar calendar) {
-        this.calendar = calendar;
+        this();
     }
 
+    /**
+     * Use {@linkplain java.util.Calendar#SHORT} labels in the default locale,
+     * following changes of the default locale
+     */
     public CalendarWeekDayFormatter() {
-        calendar = CalendarUtils.getInstance();
+        this(null, Calendar.SHORT);
+    }
+
+    /**
+     * @param locale the locale of the labels, or null to follow the default locale
+     * @param style  either {@linkplain java.util.Calendar#SHORT} or {@linkplain java.util.Calendar#LONG}
+     */
+    public CalendarWeekDayFormatter(Locale locale, int style) {
+        if(style != Calendar.SHORT && style != Calendar.LONG) {
+            throw new IllegalArgumentException("Unknown style: " + style);
+        }
+        this.locale = locale;
+        this.style = style;
     }
 
     @Override
     public CharSequence format(int dayOfWeek) {
-        calendar.set(Calendar.DAY_OF_WEEK, dayOfWeek);
-        return calendar.getDisplayName(Calendar.DAY_OF_WEEK, Calendar.SHORT, Locale.getDefault());
+        Locale locale = this.locale == null ? Locale.getDefault() : this.locale;
+        Labels labels = current;
+        if(labels == null || !labels.locale.equals(locale)) {
+            labels = getLabels(locale, style);
+            current = labels;
+        }
+        //Out of range days wrap around, as a lenient Calendar would
+        int index = ((dayOfWeek - Calendar.SUNDAY) % DAYS_IN_WEEK + DAYS_IN_WEEK) % DAYS_IN_WEEK;
+        return labels.labels[index];
+    }
+
+    /**
+     * @return the number of times this formatter built the labels of a locale and style,
+     * which only happens for the first formatter using them
+     */
+    public int getMissCount() {
+        return missCount.get();
+    }
+
+    private Labels getLabels(Locale locale, int style) {
+        String key = Labels.getKey(locale, style);
+        Labels labels = LABELS.get(key);
+        if(labels == null) {
+            missCount.incrementAndGet();
+            labels = new Labels(locale, style);
+            Labels existing = LABELS.putIfAbsent(key, labels);
+            if(existing != null) {
+                labels = existing;
+            }
+        }
+        return labels;
+    }
+
+    /**
+     * The labels of a week for one locale and style, never modified once built
+     */
+    private static final class Labels {
+
+        final Locale locale;
+        final String[] labels = new String[DAYS_IN_WEEK];
+
+        Labels(Locale locale, int style) {
+            this.locale = locale;
+            Calendar calendar = Calendar.getInstance(locale);
+            for(int i = 0; i < DAYS_IN_WEEK; i++) {
+                calendar.set(Calendar.DAY_OF_WEEK, Calendar.SUNDAY + i);
+                labels[i] = calendar.getDisplayName(Calendar.DAY_OF_WEEK, style, locale);
+            }
+        }
+
+        static String getKey(Locale locale, int style) {
+            return locale.toString() + '#' + style;
+        }
     }
 }
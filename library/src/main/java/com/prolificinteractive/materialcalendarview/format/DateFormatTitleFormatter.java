@@ -1,25 +1,42 @@
 package com.prolificinteractive.materialcalendarview.format;
 
 import com.prolificinteractive.materialcalendarview.CalendarDay;
+import com.prolificinteractive.materialcalendarview.CalendarUtils;
 
 import java.text.DateFormat;
+import java.text.FieldPosition;
 import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
 import java.util.Locale;
 
 /**
  * Format using a {@linkplain java.text.DateFormat} instance.
+ * The calendar, date and buffer used for formatting are reused, so only the title is allocated.
+ * Not thread safe, like {@linkplain java.text.DateFormat}.
  */
 public class DateFormatTitleFormatter implements TitleFormatter {
 
-    private final DateFormat dateFormat;
+    private static final String DEFAULT_PATTERN = "MMMM yyyy";
 
+    private DateFormat dateFormat;
     /**
-     * Uses "MMMM yyyy" for formatting
+     * The locale of the default format, or null if the format was supplied
+     */
+    private Locale locale;
+
+    private final Calendar calendar = CalendarUtils.getInstance();
+    private final Date date = new Date();
+    private final StringBuffer buffer = new StringBuffer();
+    private final FieldPosition position = new FieldPosition(0);
+
+    /**
+     * Uses "MMMM yyyy" for formatting, in the default locale.
+     * The format follows changes of the default locale.
      */
     public DateFormatTitleFormatter() {
-        this.dateFormat = new SimpleDateFormat(
-                "MMMM yyyy", Locale.getDefault()
-        );
+        this.locale = Locale.getDefault();
+        this.dateFormat = new SimpleDateFormat(DEFAULT_PATTERN, locale);
     }
 
     /**
@@ -27,10 +44,18 @@ public class DateFormatTitleFormatter implements TitleFormatter {
      */
     public DateFormatTitleFormatter(DateFormat format) {
         this.dateFormat = format;
+        this.locale = null;
     }
 
     @Override
     public CharSequence format(CalendarDay day) {
-        return dateFormat.format(day.getDate());
+        if(locale != null && !locale.equals(Locale.getDefault())) {
+            locale = Locale.getDefault();
+            dateFormat = new SimpleDateFormat(DEFAULT_PATTERN, locale);
+        }
+        day.copyTo(calendar);
+        date.setTime(calendar.getTimeInMillis());
+        buffer.setLength(0);
+        return dateFormat.format(date, buffer, position).toString();
     }
 }
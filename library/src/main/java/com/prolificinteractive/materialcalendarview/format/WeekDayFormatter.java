@@ -1,7 +1,5 @@
 package com.prolificinteractive.materialcalendarview.format;
 
-import com.prolificinteractive.materialcalendarview.CalendarUtils;
-
 /**
  * Supply labels for a given day of the week
  */
@@ -12,5 +10,5 @@ public interface WeekDayFormatter {
      */
     CharSequence format(int dayOfWeek);
 
-    public static final WeekDayFormatter DEFAULT = new CalendarWeekDayFormatter(CalendarUtils.getInstance());
+    public static final WeekDayFormatter DEFAULT = new CalendarWeekDayFormatter();
 }
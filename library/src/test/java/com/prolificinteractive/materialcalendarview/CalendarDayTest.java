@@ -0,0 +1,66 @@
+package com.prolificinteractive.materialcalendarview;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CalendarDayTest {
+
+    @Test
+    public void rollsOverLikeALenientCalendar() {
+        GregorianCalendar calendar = new GregorianCalendar();
+        for(int month = -14; month <= 25; month++) {
+            for(int day = -40; day <= 70; day++) {
+                if(month >= Calendar.JANUARY && month <= Calendar.DECEMBER && day >= 0 && day <= 31) {
+                    continue;
+                }
+                calendar.clear();
+                calendar.set(2015, month, day);
+                CalendarDay expected = CalendarDay.from(calendar);
+
+                String fields = "2015, " + month + ", " + day;
+                assertEquals(fields, expected, new CalendarDay(2015, month, day));
+                assertEquals(fields, expected, CalendarDay.from(2015, month, day));
+            }
+        }
+    }
+
+    @Test
+    public void keepsDaysThatCanBePacked() {
+        CalendarDay day = new CalendarDay(2015, Calendar.DECEMBER, 31);
+        assertEquals(2015, day.getYear());
+        assertEquals(Calendar.DECEMBER, day.getMonth());
+        assertEquals(31, day.getDay());
+
+        day = new CalendarDay(-3, Calendar.JANUARY, 0);
+        assertEquals(-3, day.getYear());
+        assertEquals(Calendar.JANUARY, day.getMonth());
+        assertEquals(0, day.getDay());
+    }
+
+    @Test
+    public void packedKeysRoundTripAndOrder() {
+        CalendarDay previous = null;
+        for(int epochDay = -800; epochDay <= 800; epochDay += 7) {
+            CalendarDay day = CalendarUtils.fromEpochDay(epochDay);
+            assertEquals(day, CalendarDay.fromPackedKey(day.getPackedKey()));
+            if(previous != null) {
+                assertTrue(previous.isBefore(day));
+                assertTrue(previous.getPackedKey() < day.getPackedKey());
+                assertTrue(previous.compareTo(day) < 0);
+            }
+            previous = day;
+        }
+    }
+
+    @Test
+    public void internsDaysNearToday() {
+        CalendarDay today = CalendarDay.today();
+        assertSame(today, CalendarDay.from(today.getYear(), today.getMonth(), today.getDay()));
+    }
+}
@@ -0,0 +1,115 @@
+package com.prolificinteractive.materialcalendarview;
+
+import android.app.Activity;
+import android.graphics.Color;
+import android.view.View;
+
+import com.prolificinteractive.materialcalendarview.format.MonthArrayTitleFormatter;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class CalendarStatsTest {
+
+    private MaterialCalendarView calendar;
+
+    @Before
+    public void setUp() {
+        Activity activity = Robolectric.setupActivity(Activity.class);
+        calendar = new MaterialCalendarView(activity);
+        activity.setContentView(calendar);
+        layout();
+    }
+
+    @Test
+    public void firstLayoutCreatesThreePages() {
+        CalendarStats stats = calendar.getStats();
+        assertEquals(3, stats.getPagesCreated());
+        assertEquals(0, stats.getPagesDestroyed());
+    }
+
+    @Test
+    public void cachedTitlesAreNotFormatted() {
+        //The title of the current month was cached by the first layout
+        calendar.resetStats();
+        calendar.setTitleFormatter(null);
+        assertEquals(0, calendar.getStats().getFormatterCalls());
+
+        calendar.setTitleFormatter(new MonthArrayTitleFormatter(new CharSequence[] {
+                "1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12"
+        }));
+        assertEquals(1, calendar.getStats().getFormatterCalls());
+    }
+
+    @Test
+    public void knownSelectionColorsCreateNoDrawables() {
+        calendar.setSelectionColor(Color.MAGENTA);
+        layout();
+        calendar.resetStats();
+        calendar.setSelectionColor(Color.MAGENTA);
+        layout();
+        assertEquals(0, calendar.getStats().getDrawablesCreated());
+    }
+
+    @Test
+    public void rangeChangeRebuildsMonthsOnce() {
+        calendar.resetStats();
+        calendar.setMinimumDate(CalendarDay.today());
+        layout();
+        assertEquals(1, calendar.getStats().getMonthRebuilds());
+    }
+
+    @Test
+    public void swipeCreatesAtMostOnePage() {
+        calendar.resetStats();
+        CalendarDay today = CalendarDay.today();
+        int firstDayOfMonth = CalendarUtils.toEpochDay(today.getYear(), today.getMonth(), 1);
+        //Any day 31 days after the first of a month is in the next month
+        calendar.setCurrentDate(CalendarUtils.fromEpochDay(firstDayOfMonth + 31));
+        layout();
+
+        CalendarStats stats = calendar.getStats();
+        assertTrue(stats.getPagesCreated() <= 1);
+        assertEquals(0, stats.getMonthRebuilds());
+    }
+
+    @Test
+    public void resetStartsFromZero() {
+        calendar.resetStats();
+        CalendarStats stats = calendar.getStats();
+        assertEquals(0, stats.getPagesCreated());
+        assertEquals(0, stats.getPageUpdates());
+        assertEquals(0, stats.getDrawablesCreated());
+        assertEquals(0, stats.getFormatterCalls());
+        assertEquals(0, stats.getBindNanos());
+    }
+
+    @Test
+    public void snapshotDoesNotChange() {
+        CalendarStats stats = calendar.getStats();
+        int updates = stats.getPageUpdates();
+        calendar.setShowOtherDates(true);
+        layout();
+        assertEquals(updates, stats.getPageUpdates());
+        assertTrue(calendar.getStats().getPageUpdates() > updates);
+    }
+
+    private void layout() {
+        calendar.measure(
+                View.MeasureSpec.makeMeasureSpec(1080, View.MeasureSpec.AT_MOST),
+                View.MeasureSpec.makeMeasureSpec(1920, View.MeasureSpec.AT_MOST)
+        );
+        calendar.layout(0, 0, calendar.getMeasuredWidth(), calendar.getMeasuredHeight());
+        //Pages resolve their changes right before they are drawn
+        calendar.getViewTreeObserver().dispatchOnPreDraw();
+    }
+}
@@ -0,0 +1,82 @@
+package com.prolificinteractive.materialcalendarview;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CalendarUtilsTest {
+
+    @Test
+    public void epochDaysMatchGregorianCalendar() {
+        //Proleptic, so the centuries before the Gregorian change are checked too
+        GregorianCalendar calendar = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+        calendar.setGregorianChange(new Date(Long.MIN_VALUE));
+        calendar.clear();
+        calendar.set(1600, Calendar.JANUARY, 1);
+        int epochDay = CalendarUtils.toEpochDay(1600, Calendar.JANUARY, 1);
+
+        while(calendar.get(Calendar.YEAR) <= 2400) {
+            int year = calendar.get(Calendar.YEAR);
+            int month = calendar.get(Calendar.MONTH);
+            int day = calendar.get(Calendar.DAY_OF_MONTH);
+            String date = year + "-" + (month + 1) + "-" + day;
+
+            assertEquals(date, epochDay, CalendarUtils.toEpochDay(year, month, day));
+            assertEquals(date, year, CalendarUtils.getYear(epochDay));
+            assertEquals(date, month, CalendarUtils.getMonth(epochDay));
+            assertEquals(date, day, CalendarUtils.getDay(epochDay));
+            assertEquals(date, calendar.get(Calendar.DAY_OF_WEEK), CalendarUtils.getDayOfWeek(epochDay));
+            assertEquals(date, CalendarDay.from(year, month, day), CalendarUtils.fromEpochDay(epochDay));
+
+            calendar.add(Calendar.DATE, 1);
+            epochDay++;
+        }
+    }
+
+    @Test
+    public void epochDaysAroundTheEpoch() {
+        assertEquals(0, CalendarUtils.toEpochDay(1970, Calendar.JANUARY, 1));
+        assertEquals(-1, CalendarUtils.toEpochDay(1969, Calendar.DECEMBER, 31));
+        assertEquals(-365, CalendarUtils.toEpochDay(1969, Calendar.JANUARY, 1));
+        assertEquals(Calendar.THURSDAY, CalendarUtils.getDayOfWeek(0));
+        assertEquals(Calendar.WEDNESDAY, CalendarUtils.getDayOfWeek(-1));
+        assertEquals(Calendar.THURSDAY, CalendarUtils.getDayOfWeek(-7));
+    }
+
+    @Test
+    public void leapAndCenturyYears() {
+        assertTrue(CalendarUtils.isLeapYear(1600));
+        assertFalse(CalendarUtils.isLeapYear(1700));
+        assertFalse(CalendarUtils.isLeapYear(1900));
+        assertTrue(CalendarUtils.isLeapYear(1904));
+        assertTrue(CalendarUtils.isLeapYear(2000));
+        assertFalse(CalendarUtils.isLeapYear(2100));
+
+        assertEquals(28, CalendarUtils.getDaysInMonth(1900, Calendar.FEBRUARY));
+        assertEquals(29, CalendarUtils.getDaysInMonth(2000, Calendar.FEBRUARY));
+        assertEquals(
+                CalendarUtils.toEpochDay(1900, Calendar.FEBRUARY, 28) + 1,
+                CalendarUtils.toEpochDay(1900, Calendar.MARCH, 1)
+        );
+        assertEquals(
+                CalendarUtils.toEpochDay(2000, Calendar.FEBRUARY, 28) + 2,
+                CalendarUtils.toEpochDay(2000, Calendar.MARCH, 1)
+        );
+    }
+
+    @Test
+    public void addMonthsClampsTheDay() {
+        int january31 = CalendarUtils.toEpochDay(2000, Calendar.JANUARY, 31);
+        assertEquals(CalendarUtils.toEpochDay(2000, Calendar.FEBRUARY, 29), CalendarUtils.addMonths(january31, 1));
+        assertEquals(CalendarUtils.toEpochDay(1999, Calendar.DECEMBER, 31), CalendarUtils.addMonths(january31, -1));
+        assertEquals(CalendarUtils.toEpochDay(1900, Calendar.FEBRUARY, 28),
+                CalendarUtils.addMonths(CalendarUtils.toEpochDay(1900, Calendar.JANUARY, 31), 1));
+    }
+}
@@ -0,0 +1,93 @@
+package com.prolificinteractive.materialcalendarview;
+
+import android.app.Activity;
+import android.view.MotionEvent;
+import android.view.ViewConfiguration;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class CanvasMonthViewTest {
+
+    /**
+     * The week day labels and six weeks, one 100px cell per day
+     */
+    private static final int CELL_SIZE = 100;
+
+    private CanvasMonthView view;
+    private final List<CalendarDay> clicks = new ArrayList<>();
+    private int touchSlop;
+
+    @Before
+    public void setUp() {
+        Activity activity = Robolectric.setupActivity(Activity.class);
+        touchSlop = ViewConfiguration.get(activity).getScaledTouchSlop();
+        view = new CanvasMonthView(activity, new CalendarCounters(), MonthView.DEFAULT_MAX_WEEKS);
+        view.setDate(CalendarDay.from(2015, Calendar.JUNE, 1));
+        view.setShowOtherDates(false);
+        view.setCallbacks(new CalendarPage.Callbacks() {
+            @Override
+            public void onDateClicked(CalendarDay date) {
+                clicks.add(date);
+            }
+        });
+        view.layout(0, 0, CELL_SIZE * 7, CELL_SIZE * 7);
+    }
+
+    @Test
+    public void tapClicksTheDayUnderThePointer() {
+        //Monday, June 1st is the second cell of the first week
+        touch(MotionEvent.ACTION_DOWN, 150, 150);
+        touch(MotionEvent.ACTION_UP, 150, 150);
+
+        assertEquals(1, clicks.size());
+        assertEquals(CalendarDay.from(2015, Calendar.JUNE, 1), clicks.get(0));
+    }
+
+    @Test
+    public void movingPastTheTouchSlopCancelsTheClick() {
+        touch(MotionEvent.ACTION_DOWN, 150, 150);
+        touch(MotionEvent.ACTION_MOVE, 150, 150 + touchSlop + 1);
+        touch(MotionEvent.ACTION_UP, 150, 150);
+
+        assertTrue(clicks.isEmpty());
+    }
+
+    @Test
+    public void leavingThePressedCellCancelsTheClick() {
+        //Within the touch slop, but over the next cell
+        touch(MotionEvent.ACTION_DOWN, 199, 150);
+        touch(MotionEvent.ACTION_MOVE, 201, 150);
+        touch(MotionEvent.ACTION_UP, 199, 150);
+
+        assertTrue(clicks.isEmpty());
+    }
+
+    @Test
+    public void tapOnAnEmptyCellDoesNotClick() {
+        //Sunday, May 31st is hidden
+        touch(MotionEvent.ACTION_DOWN, 50, 150);
+        touch(MotionEvent.ACTION_UP, 50, 150);
+
+        assertTrue(clicks.isEmpty());
+    }
+
+    private void touch(int action, float x, float y) {
+        MotionEvent event = MotionEvent.obtain(0, 0, action, x, y, 0);
+        view.onTouchEvent(event);
+        event.recycle();
+    }
+}
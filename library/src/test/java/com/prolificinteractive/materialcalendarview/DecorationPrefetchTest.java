@@ -0,0 +1,97 @@
+package com.prolificinteractive.materialcalendarview;
+
+import android.app.Activity;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.Calendar;
+import java.util.TreeSet;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The months decorated ahead of time when decorators run on an executor
+ */
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class DecorationPrefetchTest {
+
+    /**
+     * Runs each month as it is submitted, so every prefetched month is decorated right away
+     */
+    private static final Executor DIRECT_EXECUTOR = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
+    private MaterialCalendarView calendar;
+    /**
+     * The months the decorator ran on, as year * 12 + month
+     */
+    private final TreeSet<Integer> decoratedMonths = new TreeSet<>();
+
+    @Before
+    public void setUp() {
+        Activity activity = Robolectric.setupActivity(Activity.class);
+        calendar = new MaterialCalendarView(activity);
+    }
+
+    @Test
+    public void prefetchesTheMonthsAroundTheMonthShown() {
+        calendar.setCurrentDate(CalendarDay.from(2015, Calendar.JUNE, 15));
+        startDecorating();
+
+        assertEquals(getMonths(Calendar.MARCH, Calendar.SEPTEMBER), decoratedMonths);
+    }
+
+    @Test
+    public void prefetchesTheMonthsAroundTheWeekShown() {
+        calendar.setCalendarMode(MaterialCalendarView.MODE_WEEK);
+        //Sunday, June 14 to Saturday, June 20
+        calendar.setCurrentDate(CalendarDay.from(2015, Calendar.JUNE, 15));
+        startDecorating();
+
+        assertEquals(getMonths(Calendar.APRIL, Calendar.AUGUST), decoratedMonths);
+    }
+
+    @Test
+    public void prefetchesAroundBothMonthsOfAWeek() {
+        calendar.setCalendarMode(MaterialCalendarView.MODE_WEEK);
+        //Sunday, June 28 to Saturday, July 4
+        calendar.setCurrentDate(CalendarDay.from(2015, Calendar.JULY, 1));
+        startDecorating();
+
+        assertEquals(getMonths(Calendar.APRIL, Calendar.SEPTEMBER), decoratedMonths);
+    }
+
+    private void startDecorating() {
+        calendar.addDecorator(new DayViewDecorator() {
+            @Override
+            public boolean shouldDecorate(CalendarDay day) {
+                decoratedMonths.add(day.getYear() * 12 + day.getMonth());
+                return false;
+            }
+
+            @Override
+            public void decorate(DayViewFacade view) {
+            }
+        });
+        calendar.setDecoratorExecutor(DIRECT_EXECUTOR);
+    }
+
+    private static TreeSet<Integer> getMonths(int first, int last) {
+        TreeSet<Integer> months = new TreeSet<>();
+        for(int month = first; month <= last; month++) {
+            months.add(2015 * 12 + month);
+        }
+        return months;
+    }
+}
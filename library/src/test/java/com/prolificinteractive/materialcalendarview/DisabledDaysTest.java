@@ -0,0 +1,105 @@
+package com.prolificinteractive.materialcalendarview;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DisabledDaysTest {
+
+    @Test
+    public void mergesAdjacentIntervals() {
+        DisabledDays days = new DisabledDays();
+        days.add(10, 12);
+        days.add(13, 15);
+        days.add(7, 9);
+        assertIntervals(days, 7, 15);
+    }
+
+    @Test
+    public void mergesOverlappingIntervals() {
+        DisabledDays days = new DisabledDays();
+        days.addAll(new int[] { 20, 5, 8, 30 }, new int[] { 25, 10, 22, 30 }, 4);
+        assertIntervals(days, 5, 25, 30, 30);
+
+        //An interval inside another one changes nothing
+        days.add(6, 7);
+        assertIntervals(days, 5, 25, 30, 30);
+
+        days.add(24, 31);
+        assertIntervals(days, 5, 31);
+    }
+
+    @Test
+    public void keepsSingleDayIntervals() {
+        DisabledDays days = new DisabledDays();
+        days.add(-3, -3);
+        days.add(3, 3);
+        days.add(5, 5);
+        assertIntervals(days, -3, -3, 3, 3, 5, 5);
+
+        days.add(4, 4);
+        assertIntervals(days, -3, -3, 3, 5);
+    }
+
+    @Test
+    public void ordersReversedBounds() {
+        DisabledDays days = new DisabledDays();
+        days.add(12, 10);
+        assertIntervals(days, 10, 12);
+    }
+
+    @Test
+    public void readsOnlyTheGivenCount() {
+        DisabledDays days = new DisabledDays();
+        days.addAll(new int[] { 1, 100 }, new int[] { 2, 200 }, 1);
+        assertIntervals(days, 1, 2);
+
+        days.addAll(new int[0], new int[0], 0);
+        assertIntervals(days, 1, 2);
+    }
+
+    @Test
+    public void findsIntervalsByBinarySearch() {
+        DisabledDays days = new DisabledDays();
+        assertEquals(0, days.indexOf(0));
+        assertFalse(days.contains(0));
+
+        days.addAll(new int[] { -10, 0, 5 }, new int[] { -8, 0, 9 }, 3);
+        assertEquals(0, days.indexOf(Integer.MIN_VALUE));
+        assertEquals(0, days.indexOf(-11));
+        assertEquals(0, days.indexOf(-8));
+        assertEquals(1, days.indexOf(-7));
+        assertEquals(1, days.indexOf(0));
+        assertEquals(2, days.indexOf(1));
+        assertEquals(2, days.indexOf(9));
+        assertEquals(3, days.indexOf(10));
+        assertEquals(3, days.indexOf(Integer.MAX_VALUE));
+
+        for(int day = -12; day <= 12; day++) {
+            boolean disabled = (day >= -10 && day <= -8) || day == 0 || (day >= 5 && day <= 9);
+            assertEquals(String.valueOf(day), disabled, days.contains(day));
+        }
+    }
+
+    @Test
+    public void clears() {
+        DisabledDays days = new DisabledDays();
+        days.add(1, 5);
+        days.clear();
+        assertTrue(days.isEmpty());
+        assertFalse(days.contains(3));
+    }
+
+    /**
+     * @param bounds the start and end of each expected interval, in order
+     */
+    private static void assertIntervals(DisabledDays days, int... bounds) {
+        assertEquals(bounds.length / 2, days.size());
+        for(int i = 0; i < days.size(); i++) {
+            assertEquals(bounds[i * 2], days.getStart(i));
+            assertEquals(bounds[i * 2 + 1], days.getEnd(i));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.prolificinteractive.materialcalendarview;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+
+import static org.junit.Assert.assertEquals;
+
+public class EnabledDaysIndexTest {
+
+    /**
+     * Allows odd days of the month and counts its calls
+     */
+    private static class OddDays implements DayEnabledPredicate {
+
+        int calls = 0;
+
+        @Override
+        public boolean isEnabled(CalendarDay day) {
+            calls++;
+            return day.getDay() % 2 == 1;
+        }
+    }
+
+    @Test
+    public void allowsEveryDayWithoutPredicate() {
+        EnabledDaysIndex index = new EnabledDaysIndex();
+        assertEquals(-1L, index.getMask(0, 3, 30));
+        assertEquals(-1, index.getMonth(2015, Calendar.JUNE));
+    }
+
+    @Test
+    public void masksTheDaysOfAMonthGrid() {
+        EnabledDaysIndex index = new EnabledDaysIndex();
+        index.setPredicate(new OddDays());
+        MonthGrid grid = MonthGrid.get(2015, Calendar.JUNE, Calendar.SUNDAY, true);
+
+        long mask = index.getMask(grid.getFirstCellEpochDay(), grid.getFirstDay(), grid.getLastDay());
+        for(int cell = 0; cell < Long.SIZE; cell++) {
+            int epochDay = grid.getFirstCellEpochDay() + cell;
+            boolean inMonth = epochDay >= grid.getFirstDay() && epochDay <= grid.getLastDay();
+            boolean expected = inMonth && CalendarUtils.getDay(epochDay) % 2 == 1;
+            assertEquals("Cell " + cell, expected, (mask & (1L << cell)) != 0);
+        }
+    }
+
+    @Test
+    public void masksAWeekAcrossTwoMonths() {
+        EnabledDaysIndex index = new EnabledDaysIndex();
+        index.setPredicate(new OddDays());
+        //Sunday, June 28 to Saturday, July 4
+        int firstDay = CalendarUtils.toEpochDay(2015, Calendar.JUNE, 28);
+
+        //The 29th, then the 1st and 3rd of the next month
+        assertEquals(0x2AL, index.getMask(firstDay, firstDay, firstDay + 6));
+    }
+
+    @Test
+    public void evaluatesEachMonthOnce() {
+        EnabledDaysIndex index = new EnabledDaysIndex();
+        OddDays predicate = new OddDays();
+        index.setPredicate(predicate);
+
+        int days = index.getMonth(2015, Calendar.FEBRUARY);
+        assertEquals(28, predicate.calls);
+        assertEquals(days, index.getMonth(2015, Calendar.FEBRUARY));
+        assertEquals(28, predicate.calls);
+
+        index.clear();
+        index.getMonth(2015, Calendar.FEBRUARY);
+        assertEquals(56, predicate.calls);
+
+        OddDays other = new OddDays();
+        index.setPredicate(other);
+        index.getMonth(2015, Calendar.FEBRUARY);
+        assertEquals(28, other.calls);
+    }
+
+    @Test
+    public void replacesTheLeastRecentlyUsedMonth() {
+        EnabledDaysIndex index = new EnabledDaysIndex();
+        OddDays predicate = new OddDays();
+        index.setPredicate(predicate);
+
+        //Fill the cache, keeping the first month recently used
+        for(int month = 0; month < 24; month++) {
+            index.getMonth(2015 + month / 12, month % 12);
+            index.getMonth(2015, Calendar.JANUARY);
+        }
+        int calls = predicate.calls;
+        index.getMonth(2017, Calendar.JANUARY);
+        assertEquals(calls + 31, predicate.calls);
+
+        calls = predicate.calls;
+        index.getMonth(2015, Calendar.JANUARY);
+        assertEquals(calls, predicate.calls);
+        //February 2015 was the least recently used
+        index.getMonth(2015, Calendar.FEBRUARY);
+        assertEquals(calls + 28, predicate.calls);
+    }
+}
@@ -0,0 +1,415 @@
+package com.prolificinteractive.materialcalendarview;
+
+import android.app.Activity;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.support.v4.view.PagerAdapter;
+import android.support.v4.view.ViewPager;
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.prolificinteractive.materialcalendarview.format.ArrayWeekDayFormatter;
+import com.prolificinteractive.materialcalendarview.format.MonthArrayTitleFormatter;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Measure the work done by each operation on a real {@linkplain MaterialCalendarView}:
+ * the views and pages created and the page updates.
+ * Each operation runs on a new calendar that was laid out once, for both renderers,
+ * and includes laying out and drawing the calendar afterwards.
+ *
+ * @see PerformanceBaseline
+ */
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class MaterialCalendarViewPerformanceTest {
+
+    private static final int[] RENDERERS = {
+            MaterialCalendarView.RENDERER_VIEWS, MaterialCalendarView.RENDERER_CANVAS
+    };
+
+    private static final int[] TILE_SIZES_DP = { 32, 44, 64 };
+
+    private static final int SCREEN_WIDTH = 1080;
+    private static final int SCREEN_HEIGHT = 1920;
+
+    private final Canvas canvas = new Canvas();
+    private PerformanceBaseline baseline;
+    private Activity activity;
+
+    @Before
+    public void setUp() {
+        baseline = new PerformanceBaseline();
+        activity = Robolectric.setupActivity(Activity.class);
+    }
+
+    @After
+    public void tearDown() {
+        baseline.verify();
+    }
+
+    @Test
+    public void construct() {
+        for(int renderer : RENDERERS) {
+            Probe probe = new Probe(null);
+            MaterialCalendarView calendar = new MaterialCalendarView(activity);
+            calendar.setRenderer(renderer);
+            probe.finish(getKey(renderer, "construct"), calendar);
+        }
+    }
+
+    @Test
+    public void firstLayout() {
+        for(int renderer : RENDERERS) {
+            MaterialCalendarView calendar = new MaterialCalendarView(activity);
+            calendar.setRenderer(renderer);
+            Probe probe = new Probe(calendar);
+            activity.setContentView(calendar);
+            settle(calendar);
+            probe.finish(getKey(renderer, "firstLayout"), calendar);
+        }
+    }
+
+    @Test
+    public void weekFirstLayout() {
+        for(int renderer : RENDERERS) {
+            MaterialCalendarView calendar = new MaterialCalendarView(activity);
+            calendar.setRenderer(renderer);
+            calendar.setCalendarMode(MaterialCalendarView.MODE_WEEK);
+            Probe probe = new Probe(calendar);
+            activity.setContentView(calendar);
+            settle(calendar);
+            probe.finish(getKey(renderer, "weekFirstLayout"), calendar);
+        }
+    }
+
+    @Test
+    public void layoutAtTileSizes() {
+        for(final int tileSize : TILE_SIZES_DP) {
+            measure("tileSize" + tileSize + "dp", new Operation() {
+                @Override
+                void run(MaterialCalendarView calendar) {
+                    calendar.setTileSizeDp(tileSize);
+                }
+            });
+        }
+    }
+
+    @Test
+    public void instantiateItem() {
+        measure("instantiateItem", new Operation() {
+            @Override
+            void run(MaterialCalendarView calendar) {
+                ViewPager pager = findPager(calendar);
+                instantiate(pager, pager.getCurrentItem() + 5);
+            }
+        });
+        measure("instantiateItemRecycled", new Operation() {
+            @Override
+            void prepare(MaterialCalendarView calendar) {
+                ViewPager pager = findPager(calendar);
+                int position = pager.getCurrentItem() + 5;
+                Object page = instantiate(pager, position);
+                PagerAdapter adapter = pager.getAdapter();
+                adapter.startUpdate(pager);
+                adapter.destroyItem(pager, position, page);
+                adapter.finishUpdate(pager);
+            }
+
+            @Override
+            void run(MaterialCalendarView calendar) {
+                ViewPager pager = findPager(calendar);
+                instantiate(pager, pager.getCurrentItem() + 6);
+            }
+        });
+    }
+
+    @Test
+    public void appearanceSetters() {
+        measure("setSelectionColor", new Operation() {
+            @Override
+            void run(MaterialCalendarView calendar) {
+                calendar.setSelectionColor(Color.RED);
+            }
+        });
+        measure("setArrowColor", new Operation() {
+            @Override
+            void run(MaterialCalendarView calendar) {
+                calendar.setArrowColor(Color.RED);
+            }
+        });
+        measure("setHeaderTextAppearance", new Operation() {
+            @Override
+            void run(MaterialCalendarView calendar) {
+                calendar.setHeaderTextAppearance(android.R.style.TextAppearance_Large);
+            }
+        });
+        measure("setDateTextAppearance", new Operation() {
+            @Override
+            void run(MaterialCalendarView calendar) {
+                calendar.setDateTextAppearance(android.R.style.TextAppearance_Large);
+            }
+        });
+        measure("setWeekDayTextAppearance", new Operation() {
+            @Override
+            void run(MaterialCalendarView calendar) {
+                calendar.setWeekDayTextAppearance(android.R.style.TextAppearance_Large);
+            }
+        });
+        measure("setShowOtherDates", new Operation() {
+            @Override
+            void run(MaterialCalendarView calendar) {
+                calendar.setShowOtherDates(true);
+            }
+        });
+        measure("setFirstDayOfWeek", new Operation() {
+            @Override
+            void run(MaterialCalendarView calendar) {
+                calendar.setFirstDayOfWeek(Calendar.MONDAY);
+            }
+        });
+        measure("setWeekDayFormatter", new Operation() {
+            @Override
+            void run(MaterialCalendarView calendar) {
+                calendar.setWeekDayFormatter(new ArrayWeekDayFormatter(new CharSequence[] {
+                        "S", "M", "T", "W", "T", "F", "S"
+                }));
+            }
+        });
+        measure("setTitleFormatter", new Operation() {
+            @Override
+            void run(MaterialCalendarView calendar) {
+                calendar.setTitleFormatter(new MonthArrayTitleFormatter(new CharSequence[] {
+                        "1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12"
+                }));
+            }
+        });
+        measure("setRenderer", new Operation() {
+            @Override
+            void run(MaterialCalendarView calendar) {
+                calendar.setRenderer(calendar.getRenderer() == MaterialCalendarView.RENDERER_VIEWS
+                        ? MaterialCalendarView.RENDERER_CANVAS
+                        : MaterialCalendarView.RENDERER_VIEWS);
+            }
+        });
+    }
+
+    @Test
+    public void dateSetters() {
+        CalendarDay today = CalendarDay.today();
+        final CalendarDay month = CalendarDay.from(today.getYear(), today.getMonth(), 1);
+        measure("setSelectedDate", new Operation() {
+            @Override
+            void run(MaterialCalendarView calendar) {
+                calendar.setSelectedDate(month);
+            }
+        });
+        measure("setCurrentDate", new Operation() {
+            @Override
+            void run(MaterialCalendarView calendar) {
+                //Any day 31 days after the first of a month is in the next month
+                calendar.setCurrentDate(CalendarUtils.fromEpochDay(CalendarUtils.toEpochDay(month) + 31));
+            }
+        });
+        measure("setMinimumDate", new Operation() {
+            @Override
+            void run(MaterialCalendarView calendar) {
+                calendar.setMinimumDate(month);
+            }
+        });
+        measure("setMaximumDate", new Operation() {
+            @Override
+            void run(MaterialCalendarView calendar) {
+                int lastDay = CalendarUtils.getDaysInMonth(month.getYear(), month.getMonth());
+                calendar.setMaximumDate(CalendarDay.from(month.getYear(), month.getMonth(), lastDay));
+            }
+        });
+        measure("setSelectionMode", new Operation() {
+            @Override
+            void run(MaterialCalendarView calendar) {
+                calendar.setSelectionMode(MaterialCalendarView.SELECTION_MODE_MULTIPLE);
+            }
+        });
+        measure("addDisabledRange", new Operation() {
+            @Override
+            void run(MaterialCalendarView calendar) {
+                calendar.addDisabledRange(
+                        month,
+                        CalendarDay.from(month.getYear(), month.getMonth(), 3)
+                );
+            }
+        });
+        measure("setDayEnabledPredicate", new Operation() {
+            @Override
+            void run(MaterialCalendarView calendar) {
+                calendar.setDayEnabledPredicate(new DayEnabledPredicate() {
+                    @Override
+                    public boolean isEnabled(CalendarDay day) {
+                        return day.getDay() % 2 == 0;
+                    }
+                });
+            }
+        });
+        measure("addDecorator", new Operation() {
+            @Override
+            void run(MaterialCalendarView calendar) {
+                calendar.addDecorator(new DayViewDecorator() {
+                    @Override
+                    public boolean shouldDecorate(CalendarDay day) {
+                        return day.getDay() == 1;
+                    }
+
+                    @Override
+                    public void decorate(DayViewFacade view) {
+                        view.setDotColor(Color.RED);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Something done to a calendar that was laid out once
+     */
+    private static abstract class Operation {
+
+        /**
+         * Bring the calendar to the state the operation starts from, not measured
+         */
+        void prepare(MaterialCalendarView calendar) {}
+
+        abstract void run(MaterialCalendarView calendar);
+    }
+
+    /**
+     * Run an operation on a new calendar for each renderer, and record what it cost
+     * until the calendar is laid out and drawn again
+     */
+    private void measure(String operation, Operation op) {
+        for(int renderer : RENDERERS) {
+            MaterialCalendarView calendar = new MaterialCalendarView(activity);
+            calendar.setRenderer(renderer);
+            activity.setContentView(calendar);
+            settle(calendar);
+            op.prepare(calendar);
+            settle(calendar);
+
+            Probe probe = new Probe(calendar);
+            op.run(calendar);
+            settle(calendar);
+            probe.finish(getKey(renderer, operation), calendar);
+        }
+    }
+
+    /**
+     * The state of the calendar and the thread before an operation
+     */
+    private final class Probe {
+
+        private final Set<View> views = Collections.newSetFromMap(new IdentityHashMap<View, Boolean>());
+        private final int pagesCreated;
+        private final int pageUpdates;
+        private final long start;
+
+        /**
+         * @param calendar the calendar the operation runs on, or null if the operation creates it
+         */
+        Probe(MaterialCalendarView calendar) {
+            if(calendar != null) {
+                collectViews(calendar, views);
+                pagesCreated = calendar.getCounters().pagesCreated;
+                pageUpdates = calendar.getCounters().pageUpdates;
+            } else {
+                pagesCreated = 0;
+                pageUpdates = 0;
+            }
+            start = System.nanoTime();
+        }
+
+        void finish(String key, MaterialCalendarView calendar) {
+            long nanos = System.nanoTime() - start;
+
+            Set<View> after = Collections.newSetFromMap(new IdentityHashMap<View, Boolean>());
+            collectViews(calendar, after);
+            after.removeAll(views);
+
+            baseline.record(key, PerformanceBaseline.VIEWS, after.size());
+            baseline.record(key, PerformanceBaseline.PAGES, calendar.getCounters().pagesCreated - pagesCreated);
+            baseline.record(key, PerformanceBaseline.UPDATES, calendar.getCounters().pageUpdates - pageUpdates);
+            baseline.record(key, PerformanceBaseline.NANOS, nanos);
+        }
+    }
+
+    /**
+     * Lay out and draw every view of the calendar, so each page resolves its changes
+     */
+    private void settle(MaterialCalendarView calendar) {
+        forceLayout(calendar);
+        calendar.measure(
+                View.MeasureSpec.makeMeasureSpec(SCREEN_WIDTH, View.MeasureSpec.AT_MOST),
+                View.MeasureSpec.makeMeasureSpec(SCREEN_HEIGHT, View.MeasureSpec.AT_MOST)
+        );
+        calendar.layout(0, 0, calendar.getMeasuredWidth(), calendar.getMeasuredHeight());
+        calendar.draw(canvas);
+    }
+
+    private static void forceLayout(View view) {
+        view.forceLayout();
+        if(view instanceof ViewGroup) {
+            ViewGroup group = (ViewGroup) view;
+            for(int i = 0; i < group.getChildCount(); i++) {
+                forceLayout(group.getChildAt(i));
+            }
+        }
+    }
+
+    private static void collectViews(View view, Set<View> views) {
+        views.add(view);
+        if(view instanceof ViewGroup) {
+            ViewGroup group = (ViewGroup) view;
+            for(int i = 0; i < group.getChildCount(); i++) {
+                collectViews(group.getChildAt(i), views);
+            }
+        }
+    }
+
+    private static ViewPager findPager(View view) {
+        if(view instanceof ViewPager) {
+            return (ViewPager) view;
+        }
+        if(view instanceof ViewGroup) {
+            ViewGroup group = (ViewGroup) view;
+            for(int i = 0; i < group.getChildCount(); i++) {
+                ViewPager pager = findPager(group.getChildAt(i));
+                if(pager != null) {
+                    return pager;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Object instantiate(ViewPager pager, int position) {
+        PagerAdapter adapter = pager.getAdapter();
+        adapter.startUpdate(pager);
+        Object page = adapter.instantiateItem(pager, position);
+        adapter.finishUpdate(pager);
+        return page;
+    }
+
+    private static String getKey(int renderer, String operation) {
+        return (renderer == MaterialCalendarView.RENDERER_CANVAS ? "canvas" : "views") + '.' + operation;
+    }
+}
@@ -0,0 +1,41 @@
+package com.prolificinteractive.materialcalendarview;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+
+import static org.junit.Assert.assertEquals;
+
+public class MonthIndexTest {
+
+    @Test
+    public void mapsMonthsBeforeYearZero() {
+        MonthIndex months = new MonthIndex();
+        CalendarDay min = CalendarDay.from(-2, Calendar.MARCH, 1);
+        CalendarDay max = CalendarDay.from(1, Calendar.FEBRUARY, 1);
+        months.setRange(min, max);
+
+        assertEquals(36, months.getCount());
+        for(int position = 0; position < months.getCount(); position++) {
+            CalendarDay month = months.getMonth(position);
+            assertEquals(1, month.getDay());
+            assertEquals(position, months.indexOf(month));
+        }
+        assertEquals(min, months.getMonth(0));
+        assertEquals(CalendarDay.from(-1, Calendar.DECEMBER, 1), months.getMonth(21));
+        assertEquals(CalendarDay.from(0, Calendar.JANUARY, 1), months.getMonth(22));
+        assertEquals(max, months.getMonth(35));
+    }
+
+    @Test
+    public void daysOutOfRangeHaveNoPosition() {
+        MonthIndex months = new MonthIndex();
+        months.setRange(CalendarDay.from(2015, Calendar.MARCH, 10), CalendarDay.from(2015, Calendar.MAY, 2));
+
+        assertEquals(3, months.getCount());
+        assertEquals(0, months.indexOf(CalendarDay.from(2015, Calendar.MARCH, 1)));
+        assertEquals(2, months.indexOf(CalendarDay.from(2015, Calendar.MAY, 31)));
+        assertEquals(-1, months.indexOf(CalendarDay.from(2015, Calendar.FEBRUARY, 28)));
+        assertEquals(-1, months.indexOf(CalendarDay.from(2015, Calendar.JUNE, 1)));
+    }
+}
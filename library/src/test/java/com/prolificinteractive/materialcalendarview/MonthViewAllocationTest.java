@@ -0,0 +1,132 @@
+package com.prolificinteractive.materialcalendarview;
+
+import android.app.Activity;
+import android.graphics.Color;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Rebinding a month that is already shown must not allocate once warmed up
+ */
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class MonthViewAllocationTest {
+
+    private static final int WARM_UP_REBINDS = 1000;
+    private static final int REBINDS = 100;
+    /**
+     * Allowed for measurement noise over all rebinds.
+     * One object per cell on each rebind would allocate over 60KB.
+     */
+    private static final long MAX_ALLOCATED_BYTES = 256;
+
+    private Activity activity;
+    private MonthView view;
+    private CalendarDay month;
+    private CalendarDay nextMonth;
+
+    @Before
+    public void setUp() {
+        activity = Robolectric.setupActivity(Activity.class);
+        view = new MonthView(activity, new CalendarCounters(), MonthView.DEFAULT_MAX_WEEKS);
+
+        CalendarDay today = CalendarDay.today();
+        int firstDay = CalendarUtils.toEpochDay(today.getYear(), today.getMonth(), 1);
+        month = CalendarUtils.fromEpochDay(firstDay);
+        //Any day 31 days after the first of a month is in the next month
+        nextMonth = CalendarUtils.fromEpochDay(firstDay + 31);
+
+        SelectionStore selection = new SelectionStore();
+        selection.setRange(firstDay + 3, firstDay + 9, true);
+        DisabledDays disabledDays = new DisabledDays();
+        disabledDays.add(firstDay + 12, firstDay + 14);
+
+        view.setDate(month);
+        view.setShowOtherDates(true);
+        view.setMinimumDate(CalendarUtils.fromEpochDay(firstDay + 1));
+        view.setSelection(selection);
+        view.setDisabledDays(disabledDays);
+        EnabledDaysIndex enabledDays = new EnabledDaysIndex();
+        enabledDays.setPredicate(new DayEnabledPredicate() {
+            @Override
+            public boolean isEnabled(CalendarDay day) {
+                return day.getDay() % 5 != 0;
+            }
+        });
+        view.setEnabledDays(enabledDays);
+        DecorationIndex decorations = new DecorationIndex();
+        decorations.add(new DayViewDecorator() {
+            @Override
+            public boolean shouldDecorate(CalendarDay day) {
+                return day.getDay() % 3 == 0;
+            }
+
+            @Override
+            public void decorate(DayViewFacade view) {
+                view.setTextColor(Color.RED);
+            }
+        });
+        view.setDecorations(decorations);
+        view.onPreDraw();
+    }
+
+    @Test
+    public void rebindingTheSameMonthDoesNotAllocate() {
+        Assume.assumeTrue(PerformanceBaseline.getAllocatedBytes() >= 0);
+        for(int i = 0; i < WARM_UP_REBINDS; i++) {
+            invalidateAll();
+            view.onPreDraw();
+        }
+
+        //Some JVMs allocate to read the allocated bytes
+        long overhead = PerformanceBaseline.getAllocatedBytes();
+        overhead = PerformanceBaseline.getAllocatedBytes() - overhead;
+
+        long allocated = 0;
+        for(int i = 0; i < REBINDS; i++) {
+            //Marking the days dirty is not measured, only resolving them
+            invalidateAll();
+            long before = PerformanceBaseline.getAllocatedBytes();
+            view.onPreDraw();
+            allocated += PerformanceBaseline.getAllocatedBytes() - before - overhead;
+        }
+        assertTrue("Rebinding allocated " + allocated + " bytes over " + REBINDS + " rebinds",
+                allocated <= MAX_ALLOCATED_BYTES);
+    }
+
+    @Test
+    public void decoratedTextColorsAreReused() {
+        DayView day = new DayView(activity, new CalendarCounters());
+        DayViewFacade first = new DayViewFacade();
+        first.setTextColor(Color.RED);
+        DayViewFacade second = new DayViewFacade();
+        second.setTextColor(Color.RED);
+
+        day.setDecoration(first);
+        Object colors = day.getTextColors();
+        day.setDecoration(null);
+        day.setDecoration(second);
+        assertSame(colors, day.getTextColors());
+    }
+
+    /**
+     * Mark every aspect of the days dirty, without changing what is shown
+     */
+    private void invalidateAll() {
+        view.setDate(nextMonth);
+        view.setDate(month);
+        view.invalidateSelection();
+        view.invalidateDisabledDays();
+        view.invalidateDayEnabledPredicate();
+        view.invalidateDecorations();
+    }
+}
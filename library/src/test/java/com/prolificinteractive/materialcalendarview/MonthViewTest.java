@@ -0,0 +1,101 @@
+package com.prolificinteractive.materialcalendarview;
+
+import android.app.Activity;
+import android.view.View;
+import android.view.ViewGroup;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.Calendar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class MonthViewTest {
+
+    private static final CalendarDay MONTH = CalendarDay.from(2015, Calendar.JUNE, 1);
+
+    private MonthView view;
+
+    @Before
+    public void setUp() {
+        Activity activity = Robolectric.setupActivity(Activity.class);
+        view = new MonthView(activity, new CalendarCounters(), MonthView.DEFAULT_MAX_WEEKS);
+        view.setDate(MONTH);
+        view.setShowOtherDates(false);
+    }
+
+    @Test
+    public void disabledDaysStayVisible() {
+        DisabledDays disabledDays = new DisabledDays();
+        int tenth = CalendarUtils.toEpochDay(2015, Calendar.JUNE, 10);
+        disabledDays.add(tenth, tenth);
+        view.setDisabledDays(disabledDays);
+        view.onPreDraw();
+
+        DayView day = findDay(CalendarDay.from(2015, Calendar.JUNE, 10));
+        assertEquals(View.VISIBLE, day.getVisibility());
+        assertFalse(day.isEnabled());
+        assertTrue(findDay(CalendarDay.from(2015, Calendar.JUNE, 11)).isEnabled());
+    }
+
+    @Test
+    public void daysRejectedByThePredicateStayVisible() {
+        EnabledDaysIndex enabledDays = new EnabledDaysIndex();
+        enabledDays.setPredicate(new DayEnabledPredicate() {
+            @Override
+            public boolean isEnabled(CalendarDay day) {
+                return day.getDay() != 20;
+            }
+        });
+        view.setEnabledDays(enabledDays);
+        view.onPreDraw();
+
+        DayView day = findDay(CalendarDay.from(2015, Calendar.JUNE, 20));
+        assertEquals(View.VISIBLE, day.getVisibility());
+        assertFalse(day.isEnabled());
+        assertTrue(findDay(CalendarDay.from(2015, Calendar.JUNE, 21)).isEnabled());
+    }
+
+    @Test
+    public void daysOutOfRangeAreHidden() {
+        view.setMinimumDate(CalendarDay.from(2015, Calendar.JUNE, 5));
+        view.onPreDraw();
+
+        DayView day = findDay(CalendarDay.from(2015, Calendar.JUNE, 4));
+        assertEquals(View.INVISIBLE, day.getVisibility());
+        assertFalse(day.isEnabled());
+        assertEquals(View.VISIBLE, findDay(CalendarDay.from(2015, Calendar.JUNE, 5)).getVisibility());
+    }
+
+    private DayView findDay(CalendarDay date) {
+        DayView day = findDay(view, date);
+        assertNotNull("No cell for " + date, day);
+        return day;
+    }
+
+    private static DayView findDay(View view, CalendarDay date) {
+        if(view instanceof DayView) {
+            return date.equals(((DayView) view).getDate()) ? (DayView) view : null;
+        }
+        if(view instanceof ViewGroup) {
+            ViewGroup group = (ViewGroup) view;
+            for(int i = 0; i < group.getChildCount(); i++) {
+                DayView day = findDay(group.getChildAt(i), date);
+                if(day != null) {
+                    return day;
+                }
+            }
+        }
+        return null;
+    }
+}
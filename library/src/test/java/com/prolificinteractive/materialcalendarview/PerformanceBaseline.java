@@ -0,0 +1,207 @@
+package com.prolificinteractive.materialcalendarview;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Measurements of the performance suite, compared against the limits stored in
+ * {@code src/test/resources/performance-baseline.properties}.
+ * <p>
+ * Counts must not go over their baseline, and every count needs one. Durations are only reported.
+ */
+class PerformanceBaseline {
+
+    static final String VIEWS = "views";
+    static final String PAGES = "pages";
+    static final String UPDATES = "updates";
+    static final String NANOS = "nanos";
+
+    private static final String BASELINE_PROPERTY = "mcv.performance.baseline";
+    private static final String REPORT_PROPERTY = "mcv.performance.report";
+    private static final String UPDATE_PROPERTY = "mcv.performance.update";
+    private static final String BASELINE_RESOURCE = "/performance-baseline.properties";
+    private static final String BASELINE_COMMENT = "Limits of the performance suite, by renderer, operation and metric.\n"
+            + "Counts cannot go over their limit, every count needs one.\n"
+            + "Record new limits with ./gradlew :library:testDebug -PupdatePerformanceBaseline";
+
+    private final Properties baseline;
+    private final TreeMap<String, Long> measurements = new TreeMap<>();
+
+    PerformanceBaseline() {
+        baseline = load();
+    }
+
+    /**
+     * @param key    the renderer and operation measured, such as {@code views.firstLayout}
+     * @param metric one of the metric names of this class
+     */
+    void record(String key, String metric, long value) {
+        measurements.put(key + '.' + metric, value);
+    }
+
+    /**
+     * Write the measurements to the report and check them against the baseline,
+     * or store them as the new baseline when updating it
+     *
+     * @throws AssertionError listing every measurement over its baseline or without one
+     */
+    void verify() {
+        String report = System.getProperty(REPORT_PROPERTY);
+        if(report != null) {
+            store(new File(report), "Measurements of the last run of the performance suite");
+        }
+
+        String baselineFile = System.getProperty(BASELINE_PROPERTY);
+        if(Boolean.parseBoolean(System.getProperty(UPDATE_PROPERTY)) && baselineFile != null) {
+            for(Map.Entry<String, Long> measurement : measurements.entrySet()) {
+                if(!measurement.getKey().endsWith('.' + NANOS)) {
+                    baseline.setProperty(measurement.getKey(), String.valueOf(measurement.getValue()));
+                }
+            }
+            write(baseline, new File(baselineFile), BASELINE_COMMENT);
+            return;
+        }
+
+        List<String> regressions = new ArrayList<>();
+        List<String> missing = new ArrayList<>();
+        for(Map.Entry<String, Long> measurement : measurements.entrySet()) {
+            if(measurement.getKey().endsWith('.' + NANOS)) {
+                continue;
+            }
+            String limit = baseline.getProperty(measurement.getKey());
+            if(limit == null) {
+                missing.add(measurement.getKey() + " is " + measurement.getValue());
+                continue;
+            }
+            long value = measurement.getValue();
+            if(value > Long.parseLong(limit.trim())) {
+                regressions.add(measurement.getKey() + " is " + value + ", baseline is " + limit.trim());
+            }
+        }
+        if(!regressions.isEmpty() || !missing.isEmpty()) {
+            StringBuilder message = new StringBuilder();
+            if(!regressions.isEmpty()) {
+                message.append("Performance regressed past the baseline:");
+                for(String regression : regressions) {
+                    message.append("\n  ").append(regression);
+                }
+                message.append('\n');
+            }
+            if(!missing.isEmpty()) {
+                message.append("Measurements without a baseline:");
+                for(String measurement : missing) {
+                    message.append("\n  ").append(measurement);
+                }
+                message.append('\n');
+            }
+            message.append("If this is expected, run with -PupdatePerformanceBaseline to record a new baseline");
+            throw new AssertionError(message.toString());
+        }
+    }
+
+    /**
+     * @return the bytes allocated by this thread so far, or -1 if the JVM cannot tell
+     */
+    static long getAllocatedBytes() {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if(threads instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sunThreads = (com.sun.management.ThreadMXBean) threads;
+            if(sunThreads.isThreadAllocatedMemorySupported() && sunThreads.isThreadAllocatedMemoryEnabled()) {
+                return sunThreads.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+
+    private static Properties load() {
+        Properties properties = new Properties();
+        String baselineFile = System.getProperty(BASELINE_PROPERTY);
+        InputStream in = null;
+        try {
+            if(baselineFile != null && new File(baselineFile).exists()) {
+                in = new FileInputStream(baselineFile);
+            } else {
+                in = PerformanceBaseline.class.getResourceAsStream(BASELINE_RESOURCE);
+            }
+            if(in != null) {
+                properties.load(in);
+            }
+        } catch(IOException e) {
+            throw new IllegalStateException("Cannot read the performance baseline", e);
+        } finally {
+            close(in);
+        }
+        return properties;
+    }
+
+    /**
+     * Merge the measurements into a properties file, keeping those of other tests
+     */
+    private void store(File file, String comment) {
+        Properties properties = new Properties();
+        if(file.exists()) {
+            InputStream in = null;
+            try {
+                in = new FileInputStream(file);
+                properties.load(in);
+            } catch(IOException e) {
+                throw new IllegalStateException("Cannot read " + file, e);
+            } finally {
+                close(in);
+            }
+        }
+        for(Map.Entry<String, Long> measurement : measurements.entrySet()) {
+            properties.setProperty(measurement.getKey(), String.valueOf(measurement.getValue()));
+        }
+        write(properties, file, comment);
+    }
+
+    private static void write(Properties properties, File file, String comment) {
+        File parent = file.getParentFile();
+        if(parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IllegalStateException("Cannot create " + parent);
+        }
+        //Sorted, so the baseline diffs cleanly
+        StringBuilder content = new StringBuilder("# ").append(comment.replace("\n", "\n# ")).append('\n');
+        for(Map.Entry<String, String> entry : toMap(properties).entrySet()) {
+            content.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+        }
+        OutputStream out = null;
+        try {
+            out = new FileOutputStream(file);
+            out.write(content.toString().getBytes("ISO-8859-1"));
+        } catch(IOException e) {
+            throw new IllegalStateException("Cannot write " + file, e);
+        } finally {
+            close(out);
+        }
+    }
+
+    private static Map<String, String> toMap(Properties properties) {
+        TreeMap<String, String> map = new TreeMap<>();
+        for(String name : properties.stringPropertyNames()) {
+            map.put(name, properties.getProperty(name));
+        }
+        return map;
+    }
+
+    private static void close(Closeable closeable) {
+        if(closeable != null) {
+            try {
+                closeable.close();
+            } catch(IOException ignored) {
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.prolificinteractive.materialcalendarview;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class SelectionStoreTest {
+
+    @Test
+    public void setsDaysOnWordBoundaries() {
+        SelectionStore store = new SelectionStore();
+        store.set(63, true);
+        store.set(64, true);
+        store.set(-1, true);
+        store.set(-64, true);
+        store.set(-65, true);
+
+        assertEquals(5, store.size());
+        for(int day : new int[] { -65, -64, -1, 63, 64 }) {
+            assertTrue(String.valueOf(day), store.isSelected(day));
+        }
+        for(int day : new int[] { -66, -63, 0, 62, 65 }) {
+            assertFalse(String.valueOf(day), store.isSelected(day));
+        }
+        assertEquals(-65, store.getFirst());
+        assertArrayEquals(new int[] { -65, 64 }, store.getBounds());
+
+        store.set(-65, false);
+        store.set(64, false);
+        assertEquals(3, store.size());
+        assertArrayEquals(new int[] { -64, 63 }, store.getBounds());
+    }
+
+    @Test
+    public void setsRangesAcrossWords() {
+        SelectionStore store = new SelectionStore();
+        store.setRange(60, 200, true);
+        assertEquals(141, store.size());
+        assertFalse(store.isSelected(59));
+        assertTrue(store.isSelected(60));
+        assertTrue(store.isSelected(128));
+        assertTrue(store.isSelected(200));
+        assertFalse(store.isSelected(201));
+
+        //Reversed bounds are the same range
+        store.setRange(130, 70, false);
+        assertEquals(141 - 61, store.size());
+        assertTrue(store.isSelected(69));
+        assertFalse(store.isSelected(70));
+        assertFalse(store.isSelected(130));
+        assertTrue(store.isSelected(131));
+        assertArrayEquals(new int[] { 60, 200 }, store.getBounds());
+    }
+
+    @Test
+    public void clearsRangesPartlyOutsideOfTheWords() {
+        SelectionStore store = new SelectionStore();
+        store.setRange(100, 150, true);
+        store.setRange(-1000, 110, false);
+        store.setRange(140, 1000, false);
+        assertEquals(29, store.size());
+        assertArrayEquals(new int[] { 111, 139 }, store.getBounds());
+
+        store.setRange(-1000, -500, false);
+        store.setRange(5000, 6000, false);
+        assertEquals(29, store.size());
+
+        store.setRange(0, 1000, false);
+        assertTrue(store.isEmpty());
+        assertNull(store.getBounds());
+        assertEquals(MonthView.NO_DAY, store.getFirst());
+    }
+
+    @Test
+    public void restoresSavedWords() {
+        SelectionStore store = new SelectionStore();
+        store.setRange(-70, 10, true);
+        store.set(300, true);
+
+        SelectionStore restored = new SelectionStore();
+        restored.setWords(store.getFirstWord(), store.getWords());
+        assertEquals(store.size(), restored.size());
+        assertEquals(store.getDays(), restored.getDays());
+        assertArrayEquals(store.getBounds(), restored.getBounds());
+
+        store.clear();
+        assertTrue(store.isEmpty());
+        assertFalse(store.isSelected(0));
+        assertFalse(restored.isEmpty());
+    }
+
+    @Test
+    public void matchesABooleanArray() {
+        int offset = 500;
+        boolean[] expected = new boolean[1000];
+        SelectionStore store = new SelectionStore();
+        Random random = new Random(42);
+        for(int i = 0; i < 2000; i++) {
+            int from = random.nextInt(expected.length);
+            int to = Math.min(expected.length - 1, from + random.nextInt(150));
+            boolean selected = random.nextInt(3) != 0;
+            Arrays.fill(expected, from, to + 1, selected);
+            store.setRange(from - offset, to - offset, selected);
+        }
+
+        int count = 0;
+        for(int i = 0; i < expected.length; i++) {
+            assertEquals(String.valueOf(i - offset), expected[i], store.isSelected(i - offset));
+            if(expected[i]) {
+                count++;
+            }
+        }
+        assertEquals(count, store.size());
+    }
+}